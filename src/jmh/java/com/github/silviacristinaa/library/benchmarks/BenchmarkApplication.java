@@ -0,0 +1,83 @@
+package com.github.silviacristinaa.library.benchmarks;
+
+import com.github.silviacristinaa.library.LibraryApplication;
+import com.github.silviacristinaa.library.entities.Book;
+import com.github.silviacristinaa.library.enums.BookStatusEnum;
+import com.github.silviacristinaa.library.repositories.BookRepository;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Boots the application against an in-memory H2 database, so benchmarks run offline. {@link #start} skips the web
+ * server, {@link #startWeb} serves HTTP on a random port and {@link #startReactive} does the same from the WebFlux
+ * and R2DBC stack. Extra configuration classes, such as benchmark-only bean post-processors, can be passed along.
+ */
+final class BenchmarkApplication {
+
+    private static final int SEED_BATCH = 1_000;
+    // The test application.yml shadows the main one on the benchmark classpath, so the path is set explicitly
+    private static final String BASE_PATH = "/api/v1";
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String... args) {
+        return start(List.of(), args);
+    }
+
+    static ConfigurableApplicationContext start(List<Class<?>> sources, String... args) {
+        return run(WebApplicationType.NONE, sources, args);
+    }
+
+    static ConfigurableApplicationContext startWeb(String... args) {
+        return startWeb(List.of(), args);
+    }
+
+    static ConfigurableApplicationContext startWeb(List<Class<?>> sources, String... args) {
+        return run(WebApplicationType.SERVLET, sources, Stream.concat(Stream.of(
+                "--server.port=0",
+                "--server.servlet.context-path=" + BASE_PATH), Stream.of(args)).toArray(String[]::new));
+    }
+
+    static ConfigurableApplicationContext startReactive(String... args) {
+        return run(WebApplicationType.REACTIVE, List.of(), Stream.concat(Stream.of(
+                "--server.port=0",
+                "--spring.webflux.base-path=" + BASE_PATH,
+                "--spring.profiles.active=reactive",
+                "--spring.r2dbc.url=r2dbc:h2:mem:///benchmark",
+                "--spring.r2dbc.username=sa",
+                "--spring.r2dbc.password="), Stream.of(args)).toArray(String[]::new));
+    }
+
+    private static ConfigurableApplicationContext run(WebApplicationType webApplicationType, List<Class<?>> sources,
+                                                      String... args) {
+        return new SpringApplicationBuilder(LibraryApplication.class)
+                .sources(sources.toArray(Class<?>[]::new))
+                .web(webApplicationType)
+                .properties("spring.devtools.restart.enabled=false")
+                .run(Stream.concat(Stream.of(
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.jpa.show-sql=false"), Stream.of(args)).toArray(String[]::new));
+    }
+
+    static List<Long> seed(ConfigurableApplicationContext context, int books) {
+        BookRepository bookRepository = context.getBean(BookRepository.class);
+
+        return IntStream.range(0, books / SEED_BATCH + 1)
+                .mapToObj(batch -> IntStream.range(batch * SEED_BATCH, Math.min(books, (batch + 1) * SEED_BATCH))
+                        .mapToObj(i -> new Book(null, "Title " + i, "Author " + i % 100, BookStatusEnum.AVAILABLE))
+                        .toList())
+                .filter(batch -> !batch.isEmpty())
+                .flatMap(batch -> bookRepository.saveAll(batch).stream())
+                .map(Book::getId)
+                .toList();
+    }
+}
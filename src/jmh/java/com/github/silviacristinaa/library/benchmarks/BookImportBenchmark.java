@@ -0,0 +1,82 @@
+package com.github.silviacristinaa.library.benchmarks;
+
+import com.github.silviacristinaa.library.dtos.responses.ImportJobResponseDto;
+import com.github.silviacristinaa.library.enums.FileFormatEnum;
+import com.github.silviacristinaa.library.exceptions.BadRequestException;
+import com.github.silviacristinaa.library.repositories.BookRepository;
+import com.github.silviacristinaa.library.services.BookImportService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streaming NDJSON import of a generated feed. The feed is produced on the fly and never held in memory, and the
+ * fork runs with a small fixed heap, so a run with {@code -p lines=5000000} completing at all shows the heap stays
+ * bounded. Ingest rate is {@code lines / score}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx256m")
+@State(Scope.Benchmark)
+public class BookImportBenchmark {
+
+    @Param({"100000"})
+    private int lines;
+
+    private ConfigurableApplicationContext context;
+    private BookImportService bookImportService;
+    private BookRepository bookRepository;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        bookImportService = context.getBean(BookImportService.class);
+        bookRepository = context.getBean(BookRepository.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void clean() {
+        bookRepository.deleteAllInBatch();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ImportJobResponseDto importNdjson() throws BadRequestException {
+        ImportJobResponseDto job = bookImportService.startImport(FileFormatEnum.NDJSON, null);
+        return bookImportService.runImport(job.getId(), new GeneratedFeed(lines));
+    }
+
+    private static final class GeneratedFeed extends InputStream {
+
+        private final int lines;
+        private int line;
+        private byte[] current = new byte[0];
+        private int position;
+
+        private GeneratedFeed(int lines) {
+            this.lines = lines;
+        }
+
+        @Override
+        public int read() {
+            if (position == current.length) {
+                if (line == lines) {
+                    return -1;
+                }
+                current = ("{\"title\":\"Title " + line + "\",\"author\":\"Author " + line++ + "\"}\n")
+                        .getBytes(StandardCharsets.UTF_8);
+                position = 0;
+            }
+            return current[position++];
+        }
+    }
+}
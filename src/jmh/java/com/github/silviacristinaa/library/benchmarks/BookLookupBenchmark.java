@@ -0,0 +1,148 @@
+package com.github.silviacristinaa.library.benchmarks;
+
+import com.github.silviacristinaa.library.configs.CacheConfig;
+import com.github.silviacristinaa.library.dtos.responses.BookResponseDto;
+import com.github.silviacristinaa.library.services.BookService;
+import com.github.silviacristinaa.library.services.impl.SingleFlight;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A burst of {@code threads} simultaneous {@code BookService.findOneBookById} calls for one uncached book, with the
+ * single-flight lookup in place ({@code coalesced}) and bypassed so each miss runs its own query ({@code direct},
+ * the former path). Both go through the books cache. The book is evicted before every burst, so each one is a cold
+ * miss. Statements come from Hibernate statistics and are reported as the {@code statements} and {@code bursts}
+ * counters; divide one by the other for the statements per burst.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+@State(Scope.Benchmark)
+public class BookLookupBenchmark {
+
+    @Param({"1000"})
+    private int threads;
+
+    @Param({"coalesced", "direct"})
+    private String lookup;
+
+    private ConfigurableApplicationContext context;
+    private BookService bookService;
+    private CacheManager cacheManager;
+    private Statistics statistics;
+    private ExecutorService executor;
+    private Long id;
+
+    @Setup
+    public void setUp() {
+        List<Class<?>> sources = "direct".equals(lookup) ? List.of(BypassSingleFlight.class) : List.of();
+        context = BenchmarkApplication.start(sources,
+                "--spring.jpa.properties.hibernate.generate_statistics=true",
+                "--library.search.rebuild-on-startup=false");
+        bookService = context.getBean(BookService.class);
+        cacheManager = context.getBean(CacheManager.class);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        executor = Executors.newFixedThreadPool(threads);
+
+        id = BenchmarkApplication.seed(context, 1_000).get(500);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetStatistics() {
+        statistics.clear();
+    }
+
+    @Setup(Level.Invocation)
+    public void evict() {
+        cacheManager.getCache(CacheConfig.BOOKS).evict(id);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+        context.close();
+    }
+
+    @Benchmark
+    public List<BookResponseDto> findOneBookById(Counters counters) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<BookResponseDto>> futures = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return bookService.findOneBookById(id);
+            }));
+        }
+        start.countDown();
+
+        List<BookResponseDto> results = new ArrayList<>(threads);
+        for (Future<BookResponseDto> future : futures) {
+            results.add(future.get());
+        }
+
+        counters.bursts++;
+        counters.statements = statistics.getPrepareStatementCount();
+        return results;
+    }
+
+    /**
+     * Totals for the iteration, kept up to date after every burst since statistics are cleared when it starts.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+
+        public long bursts;
+        public long statements;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bursts = 0;
+            statements = 0;
+        }
+    }
+
+    /**
+     * Swaps the {@code bookLookups} bean for one that runs every load itself. Not a {@code @Configuration}, so
+     * component scanning never applies it to other benchmarks' contexts.
+     */
+    public static class BypassSingleFlight {
+
+        @Bean
+        public static BeanPostProcessor bypassSingleFlightPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof SingleFlight<?, ?>) {
+                        return new SingleFlight<Long, BookResponseDto>(Duration.ZERO) {
+                            @Override
+                            public <E extends Exception> BookResponseDto execute(Long key,
+                                                                                 Loader<BookResponseDto, E> loader)
+                                    throws E {
+                                return loader.load();
+                            }
+                        };
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.github.silviacristinaa.library.benchmarks;
+
+import com.github.silviacristinaa.library.dtos.requests.BookFilterRequestDto;
+import com.github.silviacristinaa.library.dtos.responses.BookResponseDto;
+import com.github.silviacristinaa.library.dtos.responses.CursorPageResponseDto;
+import com.github.silviacristinaa.library.exceptions.BadRequestException;
+import com.github.silviacristinaa.library.services.BookService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BookService} list reads against a seeded H2 catalogue, offset paging versus keyset paging.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 15, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookServiceBenchmark {
+
+    private static final int BOOKS = 10_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"0", "450"})
+    private int page;
+
+    private ConfigurableApplicationContext context;
+    private BookService bookService;
+    private String cursor;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        bookService = context.getBean(BookService.class);
+
+        List<Long> ids = BenchmarkApplication.seed(context, BOOKS);
+        cursor = page == 0 ? null : Base64.getUrlEncoder().withoutPadding().encodeToString(
+                ids.get(page * PAGE_SIZE - 1).toString().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<BookResponseDto> findAll() {
+        return bookService.findAll(new BookFilterRequestDto(), PageRequest.of(page, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public CursorPageResponseDto<BookResponseDto> findAllByCursor() throws BadRequestException {
+        return bookService.findAllByCursor(cursor, PAGE_SIZE);
+    }
+}
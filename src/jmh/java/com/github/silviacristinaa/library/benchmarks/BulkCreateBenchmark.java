@@ -0,0 +1,63 @@
+package com.github.silviacristinaa.library.benchmarks;
+
+import com.github.silviacristinaa.library.dtos.requests.BookRequestDto;
+import com.github.silviacristinaa.library.dtos.responses.BulkResponseDto;
+import com.github.silviacristinaa.library.exceptions.BadRequestException;
+import com.github.silviacristinaa.library.repositories.BookRepository;
+import com.github.silviacristinaa.library.services.BookService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Importing {@value #BOOKS} books one {@link BookService#create} call at a time versus one {@link BookService#createAll}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkCreateBenchmark {
+
+    private static final int BOOKS = 1_000;
+
+    private ConfigurableApplicationContext context;
+    private BookService bookService;
+    private BookRepository bookRepository;
+    private List<BookRequestDto> bookRequestDtos;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        bookService = context.getBean(BookService.class);
+        bookRepository = context.getBean(BookRepository.class);
+
+        bookRequestDtos = IntStream.range(0, BOOKS)
+                .mapToObj(i -> new BookRequestDto("Title " + i, "Author " + i)).toList();
+    }
+
+    @TearDown(Level.Iteration)
+    public void clean() {
+        bookRepository.deleteAllInBatch();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int createOneByOne() {
+        bookRequestDtos.forEach(bookService::create);
+        return BOOKS;
+    }
+
+    @Benchmark
+    public BulkResponseDto createAll() throws BadRequestException {
+        return bookService.createAll(bookRequestDtos);
+    }
+}
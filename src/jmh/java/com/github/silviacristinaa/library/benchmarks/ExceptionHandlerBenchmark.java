@@ -0,0 +1,82 @@
+package com.github.silviacristinaa.library.benchmarks;
+
+import com.github.silviacristinaa.library.exceptions.BadRequestException;
+import com.github.silviacristinaa.library.exceptions.ErrorMessage;
+import com.github.silviacristinaa.library.exceptions.ExpectedExceptionFactory;
+import com.github.silviacristinaa.library.exceptions.GlobalExceptionHandler;
+import com.github.silviacristinaa.library.exceptions.NotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of an expected failure, from throwing the exception to the {@link ErrorMessage} body, logging and
+ * error counting included. {@code notFoundLegacy} replays the former path (stack trace captured, ERROR log with the
+ * trace formatted through {@code String.format}) as the before figure for {@code notFound}. Stacks here are only a
+ * few JMH frames deep, so the gap under a real request, a hundred-odd frames down, is wider.
+ * Log output goes to target/benchmark.log (see logback-test.xml) so it does not flood the JMH report.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExceptionHandlerBenchmark {
+
+    private static final Logger LEGACY_LOG = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    @Param({"false", "true"})
+    private boolean stackTraces;
+
+    private GlobalExceptionHandler globalExceptionHandler;
+    private ExpectedExceptionFactory expectedExceptionFactory;
+
+    @Setup
+    public void setUp() {
+        globalExceptionHandler = new GlobalExceptionHandler(new SimpleMeterRegistry(), 10);
+        expectedExceptionFactory = new ExpectedExceptionFactory(stackTraces);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorMessage> notFound() {
+        try {
+            throw expectedExceptionFactory.notFound(String.format("Book %s not found", 999));
+        } catch (NotFoundException e) {
+            return globalExceptionHandler.handleNotFoundException(e);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorMessage> badRequest() {
+        try {
+            throw expectedExceptionFactory.badRequest("Cannot delete a book with borrowed status");
+        } catch (BadRequestException e) {
+            return globalExceptionHandler.handleBadRequestException(e);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorMessage> notFoundLegacy() {
+        try {
+            throw new LegacyNotFoundException(String.format("Book %s not found", 999));
+        } catch (LegacyNotFoundException e) {
+            LEGACY_LOG.error(String.format("e=%s,m=%s", e.getClass().getSimpleName(), e.getMessage()), e);
+            return new ResponseEntity<>(ErrorMessage.builder().message("Not found")
+                    .errors(Arrays.asList(e.getMessage())).build(), HttpStatus.NOT_FOUND);
+        }
+    }
+
+    private static class LegacyNotFoundException extends Exception {
+
+        LegacyNotFoundException(String error) {
+            super(error);
+        }
+    }
+}
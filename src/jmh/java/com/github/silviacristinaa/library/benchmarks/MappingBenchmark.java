@@ -0,0 +1,59 @@
+package com.github.silviacristinaa.library.benchmarks;
+
+import com.github.silviacristinaa.library.dtos.requests.BookRequestDto;
+import com.github.silviacristinaa.library.dtos.responses.BookResponseDto;
+import com.github.silviacristinaa.library.entities.Book;
+import com.github.silviacristinaa.library.enums.BookStatusEnum;
+import com.github.silviacristinaa.library.mappers.BookMapper;
+import com.github.silviacristinaa.library.mappers.BookMapperImpl;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-row mapping cost of the reflective {@link ModelMapper} used before against the generated {@link BookMapper}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+    private ModelMapper modelMapper;
+    private BookMapper bookMapper;
+
+    private Book book;
+    private BookRequestDto bookRequestDto;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        bookMapper = new BookMapperImpl();
+
+        book = new Book(1L, "Test", "test", BookStatusEnum.AVAILABLE);
+        bookRequestDto = new BookRequestDto("Test", "test");
+    }
+
+    @Benchmark
+    public BookResponseDto modelMapperToResponseDto() {
+        return modelMapper.map(book, BookResponseDto.class);
+    }
+
+    @Benchmark
+    public BookResponseDto bookMapperToResponseDto() {
+        return bookMapper.toResponseDto(book);
+    }
+
+    @Benchmark
+    public Book modelMapperToEntity() {
+        return modelMapper.map(bookRequestDto, Book.class);
+    }
+
+    @Benchmark
+    public Book bookMapperToEntity() {
+        return bookMapper.toEntity(bookRequestDto);
+    }
+}
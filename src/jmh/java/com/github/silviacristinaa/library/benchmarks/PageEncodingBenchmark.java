@@ -0,0 +1,105 @@
+package com.github.silviacristinaa.library.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.github.silviacristinaa.library.dtos.responses.BookResponseDto;
+import com.github.silviacristinaa.library.dtos.responses.PageResponseDto;
+import com.github.silviacristinaa.library.enums.BookStatusEnum;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cost of writing one {@code GET /books} page per encoding and envelope: {@code page} is the {@code PageImpl}
+ * returned before, with the request's paging and sort echoed back, and {@code slim} is {@link PageResponseDto}.
+ * {@code serializeAndGzip} adds the compression the server applies to the response. Bytes on the wire, raw for
+ * {@code serialize} and gzipped for {@code serializeAndGzip}, are reported as the {@code bytes} and {@code calls}
+ * counters; divide by {@code calls} for the size of one page.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageEncodingBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"page", "slim"})
+    private String envelope;
+
+    @Param({"20", "100"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private Object body;
+
+    @Setup
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        objectMapper = switch (format) {
+            case "cbor" -> builder.factory(new CBORFactory()).build();
+            case "smile" -> builder.factory(new SmileFactory()).build();
+            default -> builder.build();
+        };
+
+        List<BookResponseDto> books = IntStream.range(0, size)
+                .mapToObj(i -> new BookResponseDto(100_000L + i, "The Left Hand of Darkness, volume " + i,
+                        "Ursula K. Le Guin", i % 3 == 0 ? BookStatusEnum.BORROWED : BookStatusEnum.AVAILABLE,
+                        (long) i, Instant.now()))
+                .toList();
+        Page<BookResponseDto> page = new PageImpl<>(books, PageRequest.of(3, size, Sort.by("title")), 25_000);
+        body = envelope.equals("slim") ? PageResponseDto.of(page) : page;
+    }
+
+    @Benchmark
+    public byte[] serialize(Counters counters) throws IOException {
+        return counters.record(objectMapper.writeValueAsBytes(body));
+    }
+
+    @Benchmark
+    public byte[] serializeAndGzip(Counters counters) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzip, body);
+        }
+        return counters.record(bytes.toByteArray());
+    }
+
+    /**
+     * Totals for the iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+
+        public long calls;
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            calls = 0;
+            bytes = 0;
+        }
+
+        byte[] record(byte[] body) {
+            calls++;
+            bytes += body.length;
+            return body;
+        }
+    }
+}
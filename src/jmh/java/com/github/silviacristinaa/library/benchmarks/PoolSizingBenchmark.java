@@ -0,0 +1,224 @@
+package com.github.silviacristinaa.library.benchmarks;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Closed-loop load test for the connection pool size: {@code CLIENTS} clients each keep one request in flight, 80%
+ * page reads and 20% status changes, against the servlet stack with {@code poolSize} connections. Every statement
+ * is delayed by {@link #STATEMENT_LATENCY_MICROS}, standing in for the round trip and execution time a real
+ * database adds, which in-memory H2 otherwise hides. Connection acquires and the time they took come from the
+ * {@code hikaricp.connections.acquire} timer as the {@code acquired} and {@code acquireNanos} counters. Threads
+ * waiting for a connection and pool utilisation in per mille are sampled from {@code hikaricp.connections.pending}
+ * and {@code library.datasource.utilization} into the {@code pending}, {@code utilizationPerMille} and
+ * {@code samples} counters; divide by {@code acquired} and {@code samples} for the means, and by {@code requests}
+ * for the statements per request.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@Threads(PoolSizingBenchmark.CLIENTS)
+@State(Scope.Benchmark)
+public class PoolSizingBenchmark {
+
+    static final int CLIENTS = 64;
+
+    private static final int BOOKS = 1_000;
+    private static final int PAGE_SIZE = 20;
+    private static final long STATEMENT_LATENCY_MICROS = 20_000;
+    private static final long SAMPLE_MILLIS = 10;
+
+    @Param({"2", "4", "10", "40"})
+    private int poolSize;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private String baseUri;
+    private List<Long> ids;
+
+    private Timer acquire;
+    private Gauge pending;
+    private Gauge utilization;
+    private long acquireCount;
+    private double acquireNanos;
+
+    private long samples;
+    private long pendingThreads;
+    private long utilizationPerMille;
+    private final AtomicBoolean reported = new AtomicBoolean();
+    private volatile boolean sampling;
+    private Thread sampler;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.startWeb(List.of(SimulatedLatency.class),
+                "--spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                "--spring.datasource.hikari.minimum-idle=" + poolSize,
+                "--library.search.rebuild-on-startup=false");
+        ids = BenchmarkApplication.seed(context, BOOKS);
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        baseUri = "http://localhost:" + port + "/api/v1/books";
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+        acquire = meterRegistry.get("hikaricp.connections.acquire").timer();
+        pending = meterRegistry.get("hikaricp.connections.pending").gauge();
+        utilization = meterRegistry.get("library.datasource.utilization").gauge();
+    }
+
+    @Setup(Level.Iteration)
+    public void startSampling() {
+        acquireCount = acquire.count();
+        acquireNanos = acquire.totalTime(TimeUnit.NANOSECONDS);
+        samples = 0;
+        pendingThreads = 0;
+        utilizationPerMille = 0;
+        reported.set(false);
+        SimulatedLatency.STATEMENTS.set(0);
+
+        sampling = true;
+        sampler = Thread.ofPlatform().daemon().start(() -> {
+            while (sampling) {
+                pendingThreads += Math.round(pending.value());
+                utilizationPerMille += Math.round(utilization.value() * 1000);
+                samples++;
+                try {
+                    TimeUnit.MILLISECONDS.sleep(SAMPLE_MILLIS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        httpClient.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int request(Counters counters) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        HttpRequest request = random.nextInt(5) == 0
+                ? HttpRequest.newBuilder(URI.create(baseUri + "/" + ids.get(random.nextInt(ids.size()))))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(
+                        random.nextBoolean() ? "{\"status\":\"BORROWED\"}" : "{\"status\":\"AVAILABLE\"}"))
+                .build()
+                : HttpRequest.newBuilder(URI.create(baseUri + "?size=" + PAGE_SIZE + "&page="
+                        + random.nextInt(BOOKS / PAGE_SIZE))).GET().build();
+
+        return counters.record(httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode());
+    }
+
+    /**
+     * Stops the sampler and hands the pool-wide totals to the first client's counters only, since the counters of
+     * all clients are summed.
+     */
+    void report(Counters counters) throws InterruptedException {
+        if (!reported.compareAndSet(false, true)) {
+            return;
+        }
+        sampling = false;
+        sampler.join();
+
+        counters.acquired = acquire.count() - acquireCount;
+        counters.acquireNanos = Math.round(acquire.totalTime(TimeUnit.NANOSECONDS) - acquireNanos);
+        counters.samples = samples;
+        counters.pending = pendingThreads;
+        counters.utilizationPerMille = utilizationPerMille;
+        counters.statements = SimulatedLatency.STATEMENTS.get();
+    }
+
+    /**
+     * Not a {@code @Configuration}, so component scanning never applies it to other benchmarks' contexts.
+     */
+    public static class SimulatedLatency {
+
+        static final AtomicLong STATEMENTS = new AtomicLong();
+
+        @Bean
+        public static BeanPostProcessor simulatedLatencyDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource) {
+                        return ProxyDataSourceBuilder.create(beanName, dataSource)
+                                .beforeQuery((execInfo, queryInfoList) -> {
+                                    STATEMENTS.incrementAndGet();
+                                    LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(STATEMENT_LATENCY_MICROS));
+                                })
+                                .build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * Totals for the iteration. Requests and failures are counted by each client, the rest only by the one that
+     * reports the pool.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+
+        public long requests;
+        public long failures;
+        public long statements;
+        public long acquired;
+        public long acquireNanos;
+        public long samples;
+        public long pending;
+        public long utilizationPerMille;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            requests = 0;
+            failures = 0;
+            statements = 0;
+            acquired = 0;
+            acquireNanos = 0;
+            samples = 0;
+            pending = 0;
+            utilizationPerMille = 0;
+        }
+
+        @TearDown(Level.Iteration)
+        public void addPool(PoolSizingBenchmark benchmark) throws InterruptedException {
+            benchmark.report(this);
+        }
+
+        int record(int status) {
+            requests++;
+            if (status / 100 != 2) {
+                failures++;
+            }
+            return status;
+        }
+    }
+}
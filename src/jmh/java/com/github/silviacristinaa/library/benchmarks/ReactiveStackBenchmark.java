@@ -0,0 +1,183 @@
+package com.github.silviacristinaa.library.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bursts of {@code connections} concurrent page reads, each on its own HTTP connection, against the servlet stack
+ * (Tomcat, JPA, connection bulkhead) and the reactive one (Netty, R2DBC) over the same H2 catalogue and pool size.
+ * One operation is a whole burst, so requests per second is {@code connections / score}. The heap retained after
+ * GC and the live thread count are sampled during the bursts and reported as the {@code heapAfterGcBytes},
+ * {@code threads} and {@code samples} counters; divide by {@code samples} for the means. {@code failures} over
+ * {@code requests} is the share of non-2xx answers. Client and server share the JVM, so heap figures include the
+ * client's connections, which are the same for both stacks.
+ * Both ends hold a socket per connection, so the default of 10,000 needs an open-files limit above 20,000.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class ReactiveStackBenchmark {
+
+    private static final int BOOKS = 10_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int POOL_SIZE = 10;
+    private static final long SAMPLE_MILLIS = 10;
+
+    @Param({"servlet", "reactive"})
+    private String stack;
+
+    @Param({"10000"})
+    private int connections;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private String baseUri;
+
+    private final List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP && pool.getCollectionUsage() != null).toList();
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private long samples;
+    private long heapAfterGcBytes;
+    private long threadCount;
+    private volatile boolean sampling;
+    private Thread sampler;
+
+    @Setup
+    public void setUp() {
+        String[] args = {
+                "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                "--library.search.rebuild-on-startup=false",
+                "--library.bulkhead.acquire-timeout=30s",
+                "--server.tomcat.max-connections=" + connections,
+                "--server.tomcat.accept-count=" + connections};
+        context = "reactive".equals(stack) ? BenchmarkApplication.startReactive(args)
+                : BenchmarkApplication.startWeb(args);
+        BenchmarkApplication.seed(context, BOOKS);
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        baseUri = "http://localhost:" + port + "/api/v1/books?size=" + PAGE_SIZE + "&page=";
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @Setup(Level.Iteration)
+    public void startSampling() {
+        samples = 0;
+        heapAfterGcBytes = 0;
+        threadCount = 0;
+
+        sampling = true;
+        sampler = Thread.ofPlatform().daemon().start(() -> {
+            while (sampling) {
+                heapAfterGcBytes += heapAfterGc();
+                threadCount += threads.getThreadCount();
+                samples++;
+                try {
+                    TimeUnit.MILLISECONDS.sleep(SAMPLE_MILLIS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        httpClient.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int burst(Counters counters) {
+        AtomicInteger failures = new AtomicInteger();
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[connections];
+        for (int i = 0; i < connections; i++) {
+            int page = ThreadLocalRandom.current().nextInt(BOOKS / PAGE_SIZE);
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUri + page)).GET().build();
+
+            responses[i] = httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .handle((response, e) -> e == null && response.statusCode() / 100 == 2)
+                    .thenAccept(ok -> {
+                        if (!ok) {
+                            failures.incrementAndGet();
+                        }
+                    });
+        }
+
+        CompletableFuture.allOf(responses).join();
+        return counters.record(connections, failures.get());
+    }
+
+    /**
+     * Stops the sampler and hands its totals to the counters.
+     */
+    void stopSampling(Counters counters) throws InterruptedException {
+        sampling = false;
+        sampler.join();
+
+        counters.samples = samples;
+        counters.heapAfterGcBytes = heapAfterGcBytes;
+        counters.threads = threadCount;
+    }
+
+    /**
+     * What the heap pools held right after their last collection, which leaves out garbage not yet collected.
+     */
+    private long heapAfterGc() {
+        return heapPools.stream().mapToLong(pool -> pool.getCollectionUsage().getUsed()).sum();
+    }
+
+    /**
+     * Totals for the iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+
+        public long bursts;
+        public long requests;
+        public long failures;
+        public long samples;
+        public long heapAfterGcBytes;
+        public long threads;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bursts = 0;
+            requests = 0;
+            failures = 0;
+            samples = 0;
+            heapAfterGcBytes = 0;
+            threads = 0;
+        }
+
+        @TearDown(Level.Iteration)
+        public void addSamples(ReactiveStackBenchmark benchmark) throws InterruptedException {
+            benchmark.stopSampling(this);
+        }
+
+        int record(int requests, int failures) {
+            bursts++;
+            this.requests += requests;
+            this.failures += failures;
+            return failures;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.github.silviacristinaa.library.benchmarks;
+
+import com.github.silviacristinaa.library.dtos.responses.BookResponseDto;
+import com.github.silviacristinaa.library.mappers.BookMapper;
+import com.github.silviacristinaa.library.repositories.BookRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Page reads over a 100k-row H2 catalogue, managed entities mapped by {@link BookMapper} (the former read path)
+ * against constructor projections straight into {@link BookResponseDto}. Run with {@code -prof gc} and divide
+ * {@code gc.alloc.rate.norm} by {@code size} for the allocation per row. Statements and hydrated entities come from
+ * Hibernate statistics and are reported as the {@code statements}, {@code entitiesLoaded} and {@code calls}
+ * counters; divide by {@code calls} for the figures per request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+@State(Scope.Benchmark)
+public class ReadPathBenchmark {
+
+    private static final int BOOKS = 100_000;
+
+    @Param({"20", "100"})
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private BookRepository bookRepository;
+    private BookMapper bookMapper;
+    private Statistics statistics;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start(
+                "--spring.jpa.properties.hibernate.generate_statistics=true",
+                "--library.search.rebuild-on-startup=false");
+        bookRepository = context.getBean(BookRepository.class);
+        bookMapper = context.getBean(BookMapper.class);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+        BenchmarkApplication.seed(context, BOOKS);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetStatistics() {
+        statistics.clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<BookResponseDto> entities(Counters counters) {
+        Page<BookResponseDto> page = bookRepository.findAll(PageRequest.of(0, size)).map(bookMapper::toResponseDto);
+        counters.record(statistics);
+        return page;
+    }
+
+    @Benchmark
+    public Page<BookResponseDto> projections(Counters counters) {
+        Page<BookResponseDto> page = bookRepository.findAllResponseDtos(PageRequest.of(0, size));
+        counters.record(statistics);
+        return page;
+    }
+
+    /**
+     * Totals for the iteration, kept up to date after every call since statistics are cleared when it starts.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+
+        public long calls;
+        public long statements;
+        public long entitiesLoaded;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            calls = 0;
+            statements = 0;
+            entitiesLoaded = 0;
+        }
+
+        void record(Statistics statistics) {
+            calls++;
+            statements = statistics.getPrepareStatementCount();
+            entitiesLoaded = statistics.getEntityLoadCount();
+        }
+    }
+}
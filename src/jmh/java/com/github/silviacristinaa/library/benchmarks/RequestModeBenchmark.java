@@ -0,0 +1,66 @@
+package com.github.silviacristinaa.library.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrent HTTP page reads served on platform threads versus virtual threads behind the connection bulkhead.
+ * Run with {@code -t <threads>} to change the number of concurrent clients; sample mode reports the p50/p99/p99.9
+ * latencies next to the request count, which gives throughput for the measurement window.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx512m")
+@Threads(64)
+@State(Scope.Benchmark)
+public class RequestModeBenchmark {
+
+    private static final int BOOKS = 10_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int POOL_SIZE = 10;
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private String baseUri;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.startWeb(
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                "--library.search.rebuild-on-startup=false");
+        BenchmarkApplication.seed(context, BOOKS);
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        baseUri = "http://localhost:" + port + "/api/v1/books?size=" + PAGE_SIZE + "&page=";
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        httpClient.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int findAll() throws IOException, InterruptedException {
+        int page = ThreadLocalRandom.current().nextInt(BOOKS / PAGE_SIZE);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUri + page)).GET().build();
+
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
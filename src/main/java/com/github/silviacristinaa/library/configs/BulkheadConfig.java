@@ -0,0 +1,34 @@
+package com.github.silviacristinaa.library.configs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.silviacristinaa.library.filters.ConnectionBulkheadFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class BulkheadConfig {
+
+    @Bean
+    public FilterRegistrationBean<ConnectionBulkheadFilter> connectionBulkheadFilter(
+            @Value("${library.bulkhead.max-concurrent-requests:${spring.datasource.hikari.maximum-pool-size:10}}")
+            int maxConcurrentRequests,
+            @Value("${library.bulkhead.acquire-timeout:5s}") Duration acquireTimeout,
+            ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        ConnectionBulkheadFilter filter = new ConnectionBulkheadFilter(maxConcurrentRequests, acquireTimeout,
+                objectMapper);
+        Gauge.builder("library.bulkhead.available", filter, ConnectionBulkheadFilter::availablePermits)
+                .register(meterRegistry);
+
+        FilterRegistrationBean<ConnectionBulkheadFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/books", "/books/*");
+        return registration;
+    }
+}
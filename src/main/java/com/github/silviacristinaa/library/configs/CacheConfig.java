@@ -0,0 +1,45 @@
+package com.github.silviacristinaa.library.configs;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.silviacristinaa.library.dtos.responses.BookResponseDto;
+import com.github.silviacristinaa.library.services.impl.SingleFlight;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@EnableCaching
+@Configuration
+public class CacheConfig {
+
+    public static final String BOOKS = "books";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${library.cache.books.spec:maximumSize=10000,expireAfterWrite=10m,recordStats}") String spec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(BOOKS) {
+            @Override
+            protected org.springframework.cache.Cache adaptCaffeineCache(String name, Cache<Object, Object> cache) {
+                return new VersionedBookCache(name, cache, isAllowNullValues());
+            }
+        };
+        cacheManager.setCacheSpecification(spec);
+
+        // Puts and evictions issued inside a transaction are applied only after commit
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    /**
+     * Shares one database read between concurrent cache misses on the same book.
+     */
+    @Bean
+    public SingleFlight<Long, BookResponseDto> bookLookups(
+            @Value("${library.cache.books.coalesce-timeout:2s}") Duration coalesceTimeout) {
+        return new SingleFlight<>(coalesceTimeout);
+    }
+}
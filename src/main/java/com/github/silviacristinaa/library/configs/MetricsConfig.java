@@ -0,0 +1,92 @@
+package com.github.silviacristinaa.library.configs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.github.silviacristinaa.library.filters.RequestTimingFilter;
+import com.github.silviacristinaa.library.metrics.RequestTimingAspect;
+import com.github.silviacristinaa.library.metrics.TimedMappingJackson2CborHttpMessageConverter;
+import com.github.silviacristinaa.library.metrics.TimedMappingJackson2HttpMessageConverter;
+import com.github.silviacristinaa.library.metrics.TimedMappingJackson2SmileHttpMessageConverter;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.util.unit.DataSize;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class MetricsConfig {
+
+    private static final String MIN_RESPONSE_SIZE = "${server.compression.min-response-size:2KB}";
+
+    @Bean
+    public FilterRegistrationBean<RequestTimingFilter> requestTimingFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RequestTimingFilter> registration =
+                new FilterRegistrationBean<>(new RequestTimingFilter(meterRegistry));
+        registration.addUrlPatterns("/books", "/books/*");
+        return registration;
+    }
+
+    @Bean
+    public RequestTimingAspect requestTimingAspect() {
+        return new RequestTimingAspect();
+    }
+
+    /**
+     * Share of the pool's connections in use, next to the {@code hikaricp.connections.*} meters Spring Boot binds.
+     */
+    @Bean
+    public MeterBinder dataSourceUtilization(DataSource dataSource) {
+        return meterRegistry -> {
+            HikariDataSource hikariDataSource = DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class,
+                    HikariDataSource.class);
+            if (hikariDataSource == null) {
+                return;
+            }
+            Gauge.builder("library.datasource.utilization", hikariDataSource, MetricsConfig::utilization)
+                    .tag("pool", hikariDataSource.getPoolName())
+                    .register(meterRegistry);
+        };
+    }
+
+    // Takes the place of the converter Spring Boot would otherwise register
+    // Bodies under the compression threshold are sent with a length, so the server leaves them uncompressed
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(
+            ObjectMapper objectMapper, @Value(MIN_RESPONSE_SIZE) DataSize minResponseSize) {
+        return new TimedMappingJackson2HttpMessageConverter(objectMapper, (int) minResponseSize.toBytes());
+    }
+
+    // The binary ones replace Spring's defaults in place, behind JSON, so only an explicit Accept selects them
+    @Bean
+    public MappingJackson2CborHttpMessageConverter mappingJackson2CborHttpMessageConverter(
+            Jackson2ObjectMapperBuilder objectMapperBuilder, @Value(MIN_RESPONSE_SIZE) DataSize minResponseSize) {
+        return new TimedMappingJackson2CborHttpMessageConverter(
+                objectMapperBuilder.factory(new CBORFactory()).build(), (int) minResponseSize.toBytes());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter mappingJackson2SmileHttpMessageConverter(
+            Jackson2ObjectMapperBuilder objectMapperBuilder, @Value(MIN_RESPONSE_SIZE) DataSize minResponseSize) {
+        return new TimedMappingJackson2SmileHttpMessageConverter(
+                objectMapperBuilder.factory(new SmileFactory()).build(), (int) minResponseSize.toBytes());
+    }
+
+    private static double utilization(HikariDataSource hikariDataSource) {
+        HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+        return pool == null ? 0 : (double) pool.getActiveConnections() / hikariDataSource.getMaximumPoolSize();
+    }
+}
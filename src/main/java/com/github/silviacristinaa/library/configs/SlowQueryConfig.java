@@ -0,0 +1,34 @@
+package com.github.silviacristinaa.library.configs;
+
+import com.github.silviacristinaa.library.metrics.SlowQueryListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "library.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryConfig {
+
+    @Bean
+    public static BeanPostProcessor slowQueryDataSourcePostProcessor(
+            @Value("${library.slow-query.threshold:200ms}") Duration threshold) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(beanName, dataSource)
+                            .listener(new SlowQueryListener(threshold))
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
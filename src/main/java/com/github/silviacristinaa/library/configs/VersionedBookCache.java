@@ -0,0 +1,30 @@
+package com.github.silviacristinaa.library.configs;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.silviacristinaa.library.dtos.responses.BookResponseDto;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+/**
+ * Keeps the newest version of each book. A read that started before a write commits can finish after the write put
+ * its book, and its older copy is then dropped instead of being served until it expires.
+ */
+class VersionedBookCache extends CaffeineCache {
+
+    VersionedBookCache(String name, Cache<Object, Object> cache, boolean allowNullValues) {
+        super(name, cache, allowNullValues);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        getNativeCache().asMap().merge(key, toStoreValue(value), VersionedBookCache::newer);
+    }
+
+    private static Object newer(Object current, Object offered) {
+        if (current instanceof BookResponseDto currentBook && offered instanceof BookResponseDto offeredBook
+                && currentBook.getVersion() != null && offeredBook.getVersion() != null
+                && currentBook.getVersion() > offeredBook.getVersion()) {
+            return current;
+        }
+        return offered;
+    }
+}
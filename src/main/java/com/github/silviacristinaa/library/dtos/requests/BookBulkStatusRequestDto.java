@@ -0,0 +1,22 @@
+package com.github.silviacristinaa.library.dtos.requests;
+
+import com.github.silviacristinaa.library.enums.BookStatusEnum;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter @Setter
+public class BookBulkStatusRequestDto {
+
+    @NotEmpty
+    private List<@NotNull Long> ids;
+    @NotNull
+    private BookStatusEnum status;
+}
@@ -0,0 +1,21 @@
+package com.github.silviacristinaa.library.dtos.requests;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter @Setter
+public class BookBulkUpdateRequestDto {
+
+    @NotNull
+    private Long id;
+    @NotBlank
+    private String title;
+    @NotBlank
+    private String author;
+}
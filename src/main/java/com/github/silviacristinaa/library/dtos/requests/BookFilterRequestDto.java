@@ -0,0 +1,17 @@
+package com.github.silviacristinaa.library.dtos.requests;
+
+import com.github.silviacristinaa.library.enums.BookStatusEnum;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter @Setter
+public class BookFilterRequestDto {
+
+    private BookStatusEnum status;
+    private String author;
+    private String title;
+}
@@ -0,0 +1,24 @@
+package com.github.silviacristinaa.library.dtos.responses;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.github.silviacristinaa.library.enums.BookEventTypeEnum;
+import com.github.silviacristinaa.library.enums.BookStatusEnum;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@AllArgsConstructor
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BookEventResponseDto {
+
+    private final Long position;
+    private final Long bookId;
+    private final Long bookVersion;
+    private final BookEventTypeEnum type;
+    private final String title;
+    private final String author;
+    private final BookStatusEnum status;
+    private final Instant occurredAt;
+}
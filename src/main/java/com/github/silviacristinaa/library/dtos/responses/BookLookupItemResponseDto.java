@@ -0,0 +1,17 @@
+package com.github.silviacristinaa.library.dtos.responses;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BookLookupItemResponseDto {
+
+    private final int index;
+    private final Long id;
+    private final int status;
+    private final BookResponseDto book;
+    private final String error;
+}
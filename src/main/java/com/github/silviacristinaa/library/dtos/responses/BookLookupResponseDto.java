@@ -0,0 +1,15 @@
+package com.github.silviacristinaa.library.dtos.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@AllArgsConstructor
+@Getter
+public class BookLookupResponseDto {
+
+    private final int found;
+    private final int missing;
+    private final List<BookLookupItemResponseDto> items;
+}
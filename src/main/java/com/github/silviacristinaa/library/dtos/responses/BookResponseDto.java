@@ -1,18 +1,22 @@
 package com.github.silviacristinaa.library.dtos.responses;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.github.silviacristinaa.library.enums.BookStatusEnum;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
+
+import java.time.Instant;
 
 @AllArgsConstructor
-@NoArgsConstructor
-@Getter @Setter
+@Getter
 public class BookResponseDto {
 
-    private Long id;
-    private String title;
-    private String author;
-    private BookStatusEnum status;
+    private final Long id;
+    private final String title;
+    private final String author;
+    private final BookStatusEnum status;
+    @JsonIgnore
+    private final Long version;
+    @JsonIgnore
+    private final Instant updatedAt;
 }
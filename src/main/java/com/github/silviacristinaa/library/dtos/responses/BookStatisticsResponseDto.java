@@ -0,0 +1,20 @@
+package com.github.silviacristinaa.library.dtos.responses;
+
+import com.github.silviacristinaa.library.enums.BookStatusEnum;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.Map;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter @Setter
+public class BookStatisticsResponseDto {
+
+    private long total;
+    private Map<BookStatusEnum, Long> byStatus;
+    private Instant reconciledAt;
+}
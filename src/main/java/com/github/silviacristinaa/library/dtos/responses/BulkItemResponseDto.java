@@ -0,0 +1,19 @@
+package com.github.silviacristinaa.library.dtos.responses;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter @Setter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkItemResponseDto {
+
+    private int index;
+    private Long id;
+    private int status;
+    private String error;
+}
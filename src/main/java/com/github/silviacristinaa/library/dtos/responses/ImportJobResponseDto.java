@@ -0,0 +1,29 @@
+package com.github.silviacristinaa.library.dtos.responses;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.github.silviacristinaa.library.enums.ImportJobStatusEnum;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter @Setter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportJobResponseDto {
+
+    private String id;
+    private ImportJobStatusEnum status;
+    private long linesRead;
+    private long imported;
+    private long failed;
+    private double linesPerSecond;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private String message;
+    private List<ImportLineErrorResponseDto> errors;
+}
@@ -0,0 +1,15 @@
+package com.github.silviacristinaa.library.dtos.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter @Setter
+public class ImportLineErrorResponseDto {
+
+    private long line;
+    private String error;
+}
@@ -0,0 +1,30 @@
+package com.github.silviacristinaa.library.dtos.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * The parts of a {@link Page} clients use. Leaves out the request's own paging and sort echoed back by
+ * {@code PageImpl}, along with the flags derivable from these fields.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter @Setter
+public class PageResponseDto<T> {
+
+    private List<T> content;
+    private int number;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+
+    public static <T> PageResponseDto<T> of(Page<T> page) {
+        return new PageResponseDto<>(page.getContent(), page.getNumber(), page.getSize(), page.getTotalElements(),
+                page.getTotalPages());
+    }
+}
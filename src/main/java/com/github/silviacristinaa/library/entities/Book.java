@@ -2,19 +2,21 @@ package com.github.silviacristinaa.library.entities;
 
 import com.github.silviacristinaa.library.enums.BookStatusEnum;
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Instant;
 
 @Entity
-@AllArgsConstructor
 @NoArgsConstructor
 @Getter @Setter
 public class Book {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_seq")
+    @SequenceGenerator(name = "book_seq", sequenceName = "book_seq", allocationSize = 50)
     private Long id;
     @Column(nullable = false, length = 255)
     private String title;
@@ -23,4 +25,17 @@ public class Book {
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     private BookStatusEnum status;
+    @Version
+    @Column(nullable = false)
+    private Long version;
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public Book(Long id, String title, String author, BookStatusEnum status) {
+        this.id = id;
+        this.title = title;
+        this.author = author;
+        this.status = status;
+    }
 }
@@ -0,0 +1,75 @@
+package com.github.silviacristinaa.library.entities;
+
+import com.github.silviacristinaa.library.enums.BookEventTypeEnum;
+import com.github.silviacristinaa.library.enums.BookStatusEnum;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * A change to a book, written in the same transaction as the change itself, with the book version the change
+ * produced; a deletion has none. A change made through a managed entity is flushed before its event is built, the
+ * entity holds the version it was read with until then. The stream position is left empty until the relay numbers
+ * the event after it commits.
+ */
+@Entity
+@Table(name = "book_event")
+@NoArgsConstructor
+@Getter @Setter
+public class BookEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_event_seq")
+    @SequenceGenerator(name = "book_event_seq", sequenceName = "book_event_seq", allocationSize = 50)
+    private Long id;
+    @Column(name = "book_id", nullable = false)
+    private Long bookId;
+    @Column(name = "book_version")
+    private Long bookVersion;
+    @Column(nullable = false, length = 32)
+    @Enumerated(EnumType.STRING)
+    private BookEventTypeEnum type;
+    @Column(length = 255)
+    private String title;
+    @Column(length = 255)
+    private String author;
+    @Column(length = 32)
+    @Enumerated(EnumType.STRING)
+    private BookStatusEnum status;
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+    @Column(name = "stream_position", unique = true)
+    private Long streamPosition;
+
+    public BookEvent(Long bookId, Long bookVersion, BookEventTypeEnum type, String title, String author,
+                     BookStatusEnum status) {
+        this.bookId = bookId;
+        this.bookVersion = bookVersion;
+        this.type = type;
+        this.title = title;
+        this.author = author;
+        this.status = status;
+        this.occurredAt = Instant.now();
+    }
+
+    public static BookEvent created(Book book) {
+        return new BookEvent(book.getId(), book.getVersion(), BookEventTypeEnum.CREATED, book.getTitle(),
+                book.getAuthor(), book.getStatus());
+    }
+
+    public static BookEvent updated(Book book) {
+        return new BookEvent(book.getId(), book.getVersion(), BookEventTypeEnum.UPDATED, book.getTitle(),
+                book.getAuthor(), book.getStatus());
+    }
+
+    public static BookEvent statusChanged(Long bookId, Long bookVersion, BookStatusEnum status) {
+        return new BookEvent(bookId, bookVersion, BookEventTypeEnum.STATUS_CHANGED, null, null, status);
+    }
+
+    public static BookEvent deleted(Long bookId) {
+        return new BookEvent(bookId, null, BookEventTypeEnum.DELETED, null, null, null);
+    }
+}
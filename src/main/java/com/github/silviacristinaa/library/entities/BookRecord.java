@@ -0,0 +1,34 @@
+package com.github.silviacristinaa.library.entities;
+
+import com.github.silviacristinaa.library.enums.BookStatusEnum;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+
+/**
+ * The {@code book} row as mapped by Spring Data R2DBC for the reactive stack; {@link Book} is the JPA mapping
+ * of the same table.
+ */
+@Table("book")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter @Setter
+public class BookRecord {
+
+    @Id
+    private Long id;
+    private String title;
+    private String author;
+    private BookStatusEnum status;
+    @Version
+    private Long version;
+    @Column("updated_at")
+    private Instant updatedAt;
+}
@@ -0,0 +1,50 @@
+package com.github.silviacristinaa.library.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+/**
+ * A create request already served under a client-supplied key. Always saved as new, so a concurrent duplicate
+ * fails on the primary key instead of being merged over.
+ */
+@Entity
+@Table(name = "idempotency_key")
+@NoArgsConstructor
+@Getter
+public class IdempotencyKey implements Persistable<String> {
+
+    @Id
+    @Column(name = "idempotency_key", length = 255)
+    private String key;
+    @Column(name = "book_id", nullable = false)
+    private Long bookId;
+    @Column(nullable = false, length = 32)
+    private String fingerprint;
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Transient
+    private boolean isNew;
+
+    public IdempotencyKey(String key, Long bookId, String fingerprint, Instant createdAt) {
+        this.key = key;
+        this.bookId = bookId;
+        this.fingerprint = fingerprint;
+        this.createdAt = createdAt;
+        this.isNew = true;
+    }
+
+    @Override
+    public String getId() {
+        return key;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+}
@@ -0,0 +1,5 @@
+package com.github.silviacristinaa.library.enums;
+
+public enum BookEventTypeEnum {
+    CREATED, UPDATED, STATUS_CHANGED, DELETED;
+}
@@ -0,0 +1,34 @@
+package com.github.silviacristinaa.library.enums;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum FileFormatEnum {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    FileFormatEnum(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static Optional<FileFormatEnum> fromContentType(String contentType) {
+        if (contentType == null) {
+            return Optional.empty();
+        }
+
+        String mimeType = contentType.split(";", 2)[0].trim();
+        return Arrays.stream(values()).filter(format -> format.contentType.equalsIgnoreCase(mimeType)).findFirst();
+    }
+}
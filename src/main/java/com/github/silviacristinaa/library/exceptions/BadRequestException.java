@@ -1,10 +1,14 @@
 package com.github.silviacristinaa.library.exceptions;
 
-public class BadRequestException extends Exception {
+public class BadRequestException extends ExpectedException {
 
     private static final long serialVersionUID = 1L;
 
     public BadRequestException(final String error) {
-        super(error);
+        this(error, false);
+    }
+
+    public BadRequestException(final String error, final boolean stackTrace) {
+        super(error, stackTrace);
     }
 }
@@ -0,0 +1,14 @@
+package com.github.silviacristinaa.library.exceptions;
+
+public class ConflictException extends ExpectedException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ConflictException(final String error) {
+        this(error, false);
+    }
+
+    public ConflictException(final String error, final boolean stackTrace) {
+        super(error, stackTrace);
+    }
+}
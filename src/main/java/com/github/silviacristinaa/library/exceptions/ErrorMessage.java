@@ -8,7 +8,6 @@ import lombok.Setter;
 
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 @AllArgsConstructor
@@ -22,7 +21,7 @@ public class ErrorMessage implements Serializable {
     private String message;
 
     @Builder.Default
-    private List<String> errors = Collections.synchronizedList(new ArrayList<>());
+    private List<String> errors = new ArrayList<>();
 
     public void addError(final String error) {
         errors.add(error);
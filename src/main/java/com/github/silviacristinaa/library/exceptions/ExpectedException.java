@@ -0,0 +1,15 @@
+package com.github.silviacristinaa.library.exceptions;
+
+/**
+ * Base for the failures the API answers with a 4xx. They are part of normal traffic (unknown ids, invalid bodies),
+ * so no stack trace is captured for them unless asked for; {@link ExpectedExceptionFactory} asks when
+ * {@code library.errors.stack-traces} is turned on.
+ */
+public abstract class ExpectedException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    protected ExpectedException(final String error, final boolean stackTrace) {
+        super(error, null, false, stackTrace);
+    }
+}
@@ -0,0 +1,30 @@
+package com.github.silviacristinaa.library.exceptions;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the {@link ExpectedException}s the services throw, capturing their stack traces only when
+ * {@code library.errors.stack-traces} is on for this application.
+ */
+@Component
+public class ExpectedExceptionFactory {
+
+    private final boolean stackTraces;
+
+    public ExpectedExceptionFactory(@Value("${library.errors.stack-traces:false}") final boolean stackTraces) {
+        this.stackTraces = stackTraces;
+    }
+
+    public BadRequestException badRequest(final String error) {
+        return new BadRequestException(error, stackTraces);
+    }
+
+    public NotFoundException notFound(final String error) {
+        return new NotFoundException(error, stackTraces);
+    }
+
+    public ConflictException conflict(final String error) {
+        return new ConflictException(error, stackTraces);
+    }
+}
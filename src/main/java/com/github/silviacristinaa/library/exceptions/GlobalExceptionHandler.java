@@ -1,14 +1,18 @@
 package com.github.silviacristinaa.library.exceptions;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.support.WebExchangeBindException;
 
-import java.util.Arrays;
+import java.util.Collections;
 
 @Slf4j
 @ControllerAdvice
@@ -18,48 +22,113 @@ public class GlobalExceptionHandler {
     private static final String EXCEPTION_MSG_ARGUMENTS_NOT_VALID = "Arguments not valid";
     private static final String BAD_REQUEST_MSG = "Bad Request";
     private static final String NOT_FOUND_MSG = "Not found";
+    private static final String CONFLICT_MSG = "Conflict";
 
-    private static final String EXCEPTION_LOG_MSG = "e=%s,m=%s";
+    private static final String EXCEPTION_LOG_MSG = "e={},m={}";
+    private static final String EXPECTED_EXCEPTION_LOG_MSG = "e={},m={},suppressed={}";
+    private static final String ERRORS_METRIC = "library.errors";
+
+    private final MeterRegistry meterRegistry;
+    private final LogRateLimiter expectedLogRateLimiter;
+
+    public GlobalExceptionHandler(final MeterRegistry meterRegistry,
+                                  @Value("${library.errors.log-rate:10}") final int logRate) {
+        this.meterRegistry = meterRegistry;
+        this.expectedLogRateLimiter = new LogRateLimiter(logRate);
+    }
 
     @ExceptionHandler(Exception.class)
     @ResponseStatus(value = HttpStatus.INTERNAL_SERVER_ERROR)
     public ResponseEntity<ErrorMessage> handleUnexpectedException(final Exception ex) {
         logE(ex);
+        count(ex, HttpStatus.INTERNAL_SERVER_ERROR);
 
         return new ResponseEntity<>(ErrorMessage.builder().message(EXCEPTION_MSG_UNEXPECTED_ERROR)
-                .errors(Arrays.asList(ex.getMessage())).build(), HttpStatus.INTERNAL_SERVER_ERROR);
+                .errors(Collections.singletonList(ex.getMessage())).build(), HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(value = HttpStatus.BAD_REQUEST)
     public ResponseEntity<ErrorMessage> handleMethodArgumentNotValidException(
             final MethodArgumentNotValidException ex) {
-        logE(ex);
+        logExpected(ex);
+        count(ex, HttpStatus.BAD_REQUEST);
 
         return new ResponseEntity<>(ErrorMessage.builder().message(EXCEPTION_MSG_ARGUMENTS_NOT_VALID)
-                .errors(Arrays.asList(ex.getMessage())).build(), HttpStatus.BAD_REQUEST);
+                .errors(Collections.singletonList(ex.getMessage())).build(), HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * The reactive stack's counterpart of {@link MethodArgumentNotValidException}.
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    @ResponseStatus(value = HttpStatus.BAD_REQUEST)
+    public ResponseEntity<ErrorMessage> handleWebExchangeBindException(final WebExchangeBindException ex) {
+        logExpected(ex);
+        count(ex, HttpStatus.BAD_REQUEST);
+
+        return new ResponseEntity<>(ErrorMessage.builder().message(EXCEPTION_MSG_ARGUMENTS_NOT_VALID)
+                .errors(Collections.singletonList(ex.getMessage())).build(), HttpStatus.BAD_REQUEST);
     }
 
     @ExceptionHandler(BadRequestException.class)
     public ResponseEntity<ErrorMessage> handleBadRequestException(final BadRequestException ex) {
-        logE(ex);
+        logExpected(ex);
+        count(ex, HttpStatus.BAD_REQUEST);
 
         final ErrorMessage errorMessage = ErrorMessage.builder().message(BAD_REQUEST_MSG)
-                .errors(Arrays.asList(ex.getMessage())).build();
+                .errors(Collections.singletonList(ex.getMessage())).build();
         return new ResponseEntity<>(errorMessage, HttpStatus.BAD_REQUEST);
     }
 
     @ExceptionHandler(NotFoundException.class)
     public ResponseEntity<ErrorMessage> handleNotFoundException(final NotFoundException ex) {
-        logE(ex);
+        logExpected(ex);
+        count(ex, HttpStatus.NOT_FOUND);
 
         final ErrorMessage errorMessage = ErrorMessage.builder().message(NOT_FOUND_MSG)
-                .errors(Arrays.asList(ex.getMessage())).build();
+                .errors(Collections.singletonList(ex.getMessage())).build();
         return new ResponseEntity<>(errorMessage, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ErrorMessage> handleConflictException(final ConflictException ex) {
+        logExpected(ex);
+        count(ex, HttpStatus.CONFLICT);
+
+        final ErrorMessage errorMessage = ErrorMessage.builder().message(CONFLICT_MSG)
+                .errors(Collections.singletonList(ex.getMessage())).build();
+        return new ResponseEntity<>(errorMessage, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorMessage> handleOptimisticLockingFailureException(
+            final OptimisticLockingFailureException ex) {
+        logExpected(ex);
+        count(ex, HttpStatus.CONFLICT);
+
+        final ErrorMessage errorMessage = ErrorMessage.builder().message(CONFLICT_MSG)
+                .errors(Collections.singletonList(ex.getMessage())).build();
+        return new ResponseEntity<>(errorMessage, HttpStatus.CONFLICT);
+    }
+
+    private void count(final Exception e, final HttpStatus status) {
+        meterRegistry.counter(ERRORS_METRIC, "exception", e.getClass().getSimpleName(),
+                "status", String.valueOf(status.value())).increment();
+    }
+
+    private void logExpected(final Exception e) {
+        if (!log.isDebugEnabled()) {
+            return;
+        }
+
+        final long suppressed = expectedLogRateLimiter.tryAcquire();
+        if (suppressed >= 0) {
+            log.debug(EXPECTED_EXCEPTION_LOG_MSG, e.getClass().getSimpleName(), e.getMessage(), suppressed);
+        }
+    }
+
     private static void logE(final Exception e) {
-        final String message = String.format(EXCEPTION_LOG_MSG, e.getClass().getSimpleName(), e.getMessage());
-        log.error(message, e);
+        log.error(EXCEPTION_LOG_MSG, e.getClass().getSimpleName(), e.getMessage(), e);
     }
 }
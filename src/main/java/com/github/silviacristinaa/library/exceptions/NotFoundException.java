@@ -1,10 +1,14 @@
 package com.github.silviacristinaa.library.exceptions;
 
-public class NotFoundException extends Exception {
+public class NotFoundException extends ExpectedException {
 
     private static final long serialVersionUID = 1L;
 
     public NotFoundException(final String error) {
-        super(error);
+        this(error, false);
+    }
+
+    public NotFoundException(final String error, final boolean stackTrace) {
+        super(error, stackTrace);
     }
 }
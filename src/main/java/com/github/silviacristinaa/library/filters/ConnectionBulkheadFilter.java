@@ -0,0 +1,136 @@
+package com.github.silviacristinaa.library.filters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.silviacristinaa.library.exceptions.ErrorMessage;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the number of requests running at once to the size of the connection pool. On virtual threads the
+ * container no longer limits concurrency, so without this every request would start and then queue inside Hikari,
+ * holding its memory and timing out there instead of being rejected up front.
+ * <p>
+ * A request that goes async, such as a streamed export or import, keeps using its connection after the initial
+ * dispatch returns, so its permit is held until the async request completes and async dispatches take no other.
+ * An event stream is the exception: it stays open for as long as its subscriber listens but holds no connection,
+ * so its permit is released once the initial dispatch returns.
+ */
+public class ConnectionBulkheadFilter extends OncePerRequestFilter {
+
+    private static final String SERVICE_UNAVAILABLE_MSG = "Service unavailable";
+    private static final String TOO_MANY_CONCURRENT_REQUESTS = "Too many concurrent requests";
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+    private final ObjectMapper objectMapper;
+
+    public ConnectionBulkheadFilter(int maxConcurrentRequests, Duration acquireTimeout, ObjectMapper objectMapper) {
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        this.acquireTimeout = acquireTimeout;
+        this.objectMapper = objectMapper;
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (isAsyncDispatch(request)) {
+            // Still covered by the permit of the initial dispatch
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            reject(response);
+            return;
+        }
+
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted() && !isEventStream(request)) {
+                request.getAsyncContext().addListener(new PermitRelease());
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * Told by the handler's declared media types: an emitter only writes its headers with its first event, which may
+     * come after the dispatch returns.
+     */
+    private static boolean isEventStream(HttpServletRequest request) {
+        return request.getAttribute(HandlerMapping.PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE) instanceof Collection<?> types
+                && types.contains(MediaType.TEXT_EVENT_STREAM);
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ErrorMessage.builder().message(SERVICE_UNAVAILABLE_MSG)
+                .errors(List.of(TOO_MANY_CONCURRENT_REQUESTS)).build());
+    }
+
+    /**
+     * Releases the permit once the async request completes; the container completes it after a timeout or an error
+     * too. Follows the request into any further async cycle started by an async dispatch.
+     */
+    private final class PermitRelease implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            permits.release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
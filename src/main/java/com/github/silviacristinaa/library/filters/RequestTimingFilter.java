@@ -0,0 +1,63 @@
+package com.github.silviacristinaa.library.filters;
+
+import com.github.silviacristinaa.library.enums.RequestPhaseEnum;
+import com.github.silviacristinaa.library.metrics.RequestTimings;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how long each request spent in the database, in mapping and in serialization, as one
+ * {@code library.request.phase} timer per phase tagged like {@code http.server.requests}. Requests that go async
+ * are skipped, since most of their work happens after this filter returns.
+ */
+public class RequestTimingFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_PHASE_METRIC = "library.request.phase";
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    public RequestTimingFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTimings timings = RequestTimings.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestTimings.clear();
+        }
+
+        if (!request.isAsyncStarted()) {
+            record(request, timings);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestTimings timings) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? UNKNOWN_URI : pattern.toString();
+
+        for (RequestPhaseEnum phase : RequestPhaseEnum.values()) {
+            Timer.builder(REQUEST_PHASE_METRIC)
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .tag("phase", phase.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry)
+                    .record(timings.nanos(phase), TimeUnit.NANOSECONDS);
+        }
+    }
+}
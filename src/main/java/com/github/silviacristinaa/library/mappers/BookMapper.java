@@ -0,0 +1,25 @@
+package com.github.silviacristinaa.library.mappers;
+
+import com.github.silviacristinaa.library.dtos.requests.BookRequestDto;
+import com.github.silviacristinaa.library.dtos.responses.BookResponseDto;
+import com.github.silviacristinaa.library.entities.Book;
+import com.github.silviacristinaa.library.entities.BookRecord;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface BookMapper {
+
+    BookResponseDto toResponseDto(Book book);
+
+    BookResponseDto recordToResponseDto(BookRecord bookRecord);
+
+    Book recordToEntity(BookRecord bookRecord);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "status", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    Book toEntity(BookRequestDto bookRequestDto);
+}
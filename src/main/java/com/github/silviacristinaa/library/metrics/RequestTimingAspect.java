@@ -0,0 +1,37 @@
+package com.github.silviacristinaa.library.metrics;
+
+import com.github.silviacristinaa.library.enums.RequestPhaseEnum;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * Adds the time spent in repository and mapper calls to the {@link RequestTimings} of the current request.
+ */
+@Aspect
+public class RequestTimingAspect {
+
+    @Around("this(com.github.silviacristinaa.library.repositories.BookRepository)")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(RequestPhaseEnum.DB, joinPoint);
+    }
+
+    @Around("this(com.github.silviacristinaa.library.mappers.BookMapper)")
+    public Object timeMapper(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(RequestPhaseEnum.MAPPING, joinPoint);
+    }
+
+    private static Object time(RequestPhaseEnum phase, ProceedingJoinPoint joinPoint) throws Throwable {
+        RequestTimings timings = RequestTimings.current();
+        if (timings == null || !timings.enter(phase)) {
+            return joinPoint.proceed();
+        }
+
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timings.exit(phase, System.nanoTime() - start);
+        }
+    }
+}
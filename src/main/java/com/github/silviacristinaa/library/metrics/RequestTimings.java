@@ -0,0 +1,79 @@
+package com.github.silviacristinaa.library.metrics;
+
+import com.github.silviacristinaa.library.enums.RequestPhaseEnum;
+
+import java.io.IOException;
+
+/**
+ * Time spent per {@link RequestPhaseEnum} by the request bound to the current thread. Nested entries into a phase
+ * that is already running are not counted twice. Work handed off to other threads is not seen.
+ */
+public final class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private final long[] nanos = new long[RequestPhaseEnum.values().length];
+    private final boolean[] active = new boolean[RequestPhaseEnum.values().length];
+
+    private RequestTimings() {
+    }
+
+    public static RequestTimings start() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Runs {@code task} as {@code phase} of the current request. Runs it untimed outside a request or when the phase
+     * is already running.
+     */
+    public static void time(RequestPhaseEnum phase, IOTask task) throws IOException {
+        RequestTimings timings = current();
+        if (timings == null || !timings.enter(phase)) {
+            task.run();
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            task.run();
+        } finally {
+            timings.exit(phase, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Returns {@code false} when the phase is already running, in which case {@link #exit} must not be called.
+     */
+    public boolean enter(RequestPhaseEnum phase) {
+        if (active[phase.ordinal()]) {
+            return false;
+        }
+        active[phase.ordinal()] = true;
+        return true;
+    }
+
+    public void exit(RequestPhaseEnum phase, long elapsedNanos) {
+        active[phase.ordinal()] = false;
+        nanos[phase.ordinal()] += elapsedNanos;
+    }
+
+    public long nanos(RequestPhaseEnum phase) {
+        return nanos[phase.ordinal()];
+    }
+
+    @FunctionalInterface
+    public interface IOTask {
+
+        void run() throws IOException;
+    }
+}
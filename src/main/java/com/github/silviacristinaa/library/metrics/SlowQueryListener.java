@@ -0,0 +1,72 @@
+package com.github.silviacristinaa.library.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Logs statements that took at least the threshold to the {@code library.slow-query} logger, which
+ * logback-spring.xml hands to an async appender. Each entry carries the bind parameter types (never their values)
+ * and the service method the statement came from, looked up only once a statement is known to be slow.
+ */
+@Slf4j(topic = "library.slow-query")
+public class SlowQueryListener implements QueryExecutionListener {
+
+    private static final String SLOW_QUERY_LOG_MSG =
+            "slow_query elapsed_ms={} origin={} batch_size={} params={} sql=\"{}\"";
+    private static final String SERVICES_PACKAGE = "com.github.silviacristinaa.library.services.";
+    private static final String UNKNOWN_ORIGIN = "unknown";
+
+    private final long thresholdMillis;
+
+    public SlowQueryListener(Duration threshold) {
+        this.thresholdMillis = threshold.toMillis();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {
+        if (executionInfo.getElapsedTime() < thresholdMillis || !log.isInfoEnabled()) {
+            return;
+        }
+
+        String origin = origin();
+        for (QueryInfo queryInfo : queryInfoList) {
+            List<List<ParameterSetOperation>> parametersList = queryInfo.getParametersList();
+            log.info(SLOW_QUERY_LOG_MSG, executionInfo.getElapsedTime(), origin,
+                    executionInfo.isBatch() ? executionInfo.getBatchSize() : 1,
+                    parametersList.isEmpty() ? "[]" : shape(parametersList.get(0)), queryInfo.getQuery());
+        }
+    }
+
+    static String shape(List<ParameterSetOperation> parameters) {
+        StringJoiner shape = new StringJoiner(",", "[", "]");
+        for (ParameterSetOperation parameter : parameters) {
+            Object[] args = parameter.getArgs();
+            if (ParameterSetOperation.isSetNullParameterOperation(parameter) || args.length < 2 || args[1] == null) {
+                shape.add("null");
+            } else {
+                shape.add(args[1].getClass().getSimpleName());
+            }
+        }
+        return shape.toString();
+    }
+
+    private static String origin() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(SERVICES_PACKAGE))
+                .findFirst()
+                .map(frame -> frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1)
+                        + "." + frame.getMethodName())
+                .orElse(UNKNOWN_ORIGIN));
+    }
+}
@@ -0,0 +1,97 @@
+package com.github.silviacristinaa.library.metrics;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.server.ServletServerHttpResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Holds back a converter's response body until it reaches {@code threshold} bytes. A smaller body goes out with a
+ * Content-Length, so the server's compression threshold applies to it; Jackson streams without one, and a response
+ * of unknown length is compressed however small. A body that reaches the threshold is streamed on as before.
+ */
+final class SmallBodyBuffer extends OutputStream {
+
+    private final HttpOutputMessage outputMessage;
+    private final int threshold;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private OutputStream body;
+
+    private SmallBodyBuffer(HttpOutputMessage outputMessage, int threshold) {
+        this.outputMessage = outputMessage;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Runs {@code writer} against a message whose body is buffered. Only whole server responses are; an emitter's
+     * events are written into one that is already streaming.
+     */
+    static void write(HttpOutputMessage outputMessage, int threshold, BodyWriter writer) throws IOException {
+        if (threshold <= 0 || !(outputMessage instanceof ServletServerHttpResponse)) {
+            writer.write(outputMessage);
+            return;
+        }
+
+        SmallBodyBuffer body = new SmallBodyBuffer(outputMessage, threshold);
+        writer.write(new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return body;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return outputMessage.getHeaders();
+            }
+        });
+        body.finish();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        if (body == null && buffer.size() + length < threshold) {
+            buffer.write(bytes, offset, length);
+            return;
+        }
+        if (body == null) {
+            // Getting the body commits the headers, with no length
+            body = outputMessage.getBody();
+            buffer.writeTo(body);
+        }
+        body.write(bytes, offset, length);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        // A buffered body is not flushed, that would commit the response before its length is known
+        if (body != null) {
+            body.flush();
+        }
+    }
+
+    @Override
+    public void close() {
+        // The converter's caller flushes and closes the response itself
+    }
+
+    private void finish() throws IOException {
+        if (body == null) {
+            outputMessage.getHeaders().setContentLength(buffer.size());
+            buffer.writeTo(outputMessage.getBody());
+        }
+    }
+
+    @FunctionalInterface
+    interface BodyWriter {
+
+        void write(HttpOutputMessage outputMessage) throws IOException;
+    }
+}
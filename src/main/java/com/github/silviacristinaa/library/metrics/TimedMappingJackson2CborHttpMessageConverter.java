@@ -0,0 +1,30 @@
+package com.github.silviacristinaa.library.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.silviacristinaa.library.enums.RequestPhaseEnum;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * CBOR counterpart of {@link TimedMappingJackson2HttpMessageConverter}.
+ */
+public class TimedMappingJackson2CborHttpMessageConverter extends MappingJackson2CborHttpMessageConverter {
+
+    private final int minResponseSize;
+
+    public TimedMappingJackson2CborHttpMessageConverter(ObjectMapper objectMapper, int minResponseSize) {
+        super(objectMapper);
+        this.minResponseSize = minResponseSize;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        RequestTimings.time(RequestPhaseEnum.SERIALIZATION, () -> SmallBodyBuffer.write(outputMessage, minResponseSize,
+                message -> super.writeInternal(object, type, message)));
+    }
+}
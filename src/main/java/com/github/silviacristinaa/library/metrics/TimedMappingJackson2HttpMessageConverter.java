@@ -0,0 +1,32 @@
+package com.github.silviacristinaa.library.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.silviacristinaa.library.enums.RequestPhaseEnum;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Jackson converter that adds the time spent writing response bodies to the {@link RequestTimings} of the current
+ * request. Bodies are written straight to the response, so large ones also include the time to flush them out.
+ * Bodies under {@code minResponseSize} are buffered first, see {@link SmallBodyBuffer}.
+ */
+public class TimedMappingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final int minResponseSize;
+
+    public TimedMappingJackson2HttpMessageConverter(ObjectMapper objectMapper, int minResponseSize) {
+        super(objectMapper);
+        this.minResponseSize = minResponseSize;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        RequestTimings.time(RequestPhaseEnum.SERIALIZATION, () -> SmallBodyBuffer.write(outputMessage, minResponseSize,
+                message -> super.writeInternal(object, type, message)));
+    }
+}
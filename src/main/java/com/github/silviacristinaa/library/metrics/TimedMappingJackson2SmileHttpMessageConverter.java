@@ -0,0 +1,30 @@
+package com.github.silviacristinaa.library.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.silviacristinaa.library.enums.RequestPhaseEnum;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Smile counterpart of {@link TimedMappingJackson2HttpMessageConverter}.
+ */
+public class TimedMappingJackson2SmileHttpMessageConverter extends MappingJackson2SmileHttpMessageConverter {
+
+    private final int minResponseSize;
+
+    public TimedMappingJackson2SmileHttpMessageConverter(ObjectMapper objectMapper, int minResponseSize) {
+        super(objectMapper);
+        this.minResponseSize = minResponseSize;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        RequestTimings.time(RequestPhaseEnum.SERIALIZATION, () -> SmallBodyBuffer.write(outputMessage, minResponseSize,
+                message -> super.writeInternal(object, type, message)));
+    }
+}
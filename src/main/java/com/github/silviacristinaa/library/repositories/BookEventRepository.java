@@ -0,0 +1,27 @@
+package com.github.silviacristinaa.library.repositories;
+
+import com.github.silviacristinaa.library.entities.BookEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface BookEventRepository extends JpaRepository<BookEvent, Long> {
+
+    List<BookEvent> findByStreamPositionIsNullOrderById(Limit limit);
+
+    List<BookEvent> findByStreamPositionGreaterThanOrderByStreamPosition(Long streamPosition, Limit limit);
+
+    @Query("select coalesce(max(e.streamPosition), 0) from BookEvent e")
+    long findMaxStreamPosition();
+
+    @Modifying
+    @Query("delete from BookEvent e where e.occurredAt < :occurredAt and e.streamPosition is not null")
+    int deleteRelayedByOccurredAtBefore(@Param("occurredAt") Instant occurredAt);
+}
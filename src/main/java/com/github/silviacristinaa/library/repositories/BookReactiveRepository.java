@@ -0,0 +1,29 @@
+package com.github.silviacristinaa.library.repositories;
+
+import com.github.silviacristinaa.library.entities.BookRecord;
+import com.github.silviacristinaa.library.enums.BookStatusEnum;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface BookReactiveRepository extends R2dbcRepository<BookRecord, Long>, BookReactiveRepositoryCustom {
+
+    /**
+     * Takes the value itself as the id. The JPA side uses the 50 ids ending at each value it draws, so the two
+     * never hand out the same id.
+     */
+    @Query("select nextval('book_seq')")
+    Mono<Long> nextId();
+
+    @Modifying
+    @Query("update book set status = :status, version = version + 1, updated_at = current_timestamp "
+            + "where id = :id and status = :expected")
+    Mono<Integer> updateStatusByIdAndStatus(Long id, BookStatusEnum expected, BookStatusEnum status);
+
+    @Modifying
+    @Query("delete from book where id = :id and status <> :status")
+    Mono<Integer> deleteByIdAndStatusNot(Long id, BookStatusEnum status);
+}
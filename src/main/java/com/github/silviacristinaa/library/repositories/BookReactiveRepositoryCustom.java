@@ -0,0 +1,12 @@
+package com.github.silviacristinaa.library.repositories;
+
+import com.github.silviacristinaa.library.dtos.requests.BookFilterRequestDto;
+import com.github.silviacristinaa.library.entities.BookRecord;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Mono;
+
+public interface BookReactiveRepositoryCustom {
+
+    Mono<Page<BookRecord>> findAllByFilter(BookFilterRequestDto filter, Pageable pageable);
+}
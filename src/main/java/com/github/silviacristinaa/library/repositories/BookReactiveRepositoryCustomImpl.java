@@ -0,0 +1,50 @@
+package com.github.silviacristinaa.library.repositories;
+
+import com.github.silviacristinaa.library.dtos.requests.BookFilterRequestDto;
+import com.github.silviacristinaa.library.entities.BookRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class BookReactiveRepositoryCustomImpl implements BookReactiveRepositoryCustom {
+
+    private final R2dbcEntityTemplate r2dbcEntityTemplate;
+
+    @Override
+    public Mono<Page<BookRecord>> findAllByFilter(BookFilterRequestDto filter, Pageable pageable) {
+        Criteria criteria = toCriteria(filter);
+
+        Mono<List<BookRecord>> content = r2dbcEntityTemplate
+                .select(Query.query(criteria).with(pageable), BookRecord.class)
+                .collectList();
+        Mono<Long> total = r2dbcEntityTemplate.count(Query.query(criteria), BookRecord.class);
+
+        return Mono.zip(content, total).map(page -> new PageImpl<>(page.getT1(), pageable, page.getT2()));
+    }
+
+    private static Criteria toCriteria(BookFilterRequestDto filter) {
+        Criteria criteria = Criteria.empty();
+
+        if (filter.getStatus() != null) {
+            criteria = criteria.and("status").is(filter.getStatus());
+        }
+        if (StringUtils.hasText(filter.getAuthor())) {
+            criteria = criteria.and("author").is(filter.getAuthor());
+        }
+        if (StringUtils.hasText(filter.getTitle())) {
+            // Same sargable prefix match as the JPA filter, with backslash as the default escape character
+            criteria = criteria.and("title").like(BookRepositoryCustomImpl.escapeLike(filter.getTitle()) + "%");
+        }
+
+        return criteria;
+    }
+}
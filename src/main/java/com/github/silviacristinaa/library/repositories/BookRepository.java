@@ -1,10 +1,53 @@
 package com.github.silviacristinaa.library.repositories;
 
+import com.github.silviacristinaa.library.dtos.responses.BookResponseDto;
 import com.github.silviacristinaa.library.entities.Book;
+import com.github.silviacristinaa.library.enums.BookStatusEnum;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface BookRepository extends JpaRepository<Book, Long> {
+public interface BookRepository extends JpaRepository<Book, Long>, BookRepositoryCustom {
+
+    /**
+     * Reads straight into {@link BookResponseDto}, so read paths skip entity hydration, the persistence context
+     * snapshot and the mapper.
+     */
+    String SELECT_RESPONSE_DTO = "select new com.github.silviacristinaa.library.dtos.responses"
+            + ".BookResponseDto(b.id, b.title, b.author, b.status, b.version, b.updatedAt) from Book b";
+
+    @Query(value = SELECT_RESPONSE_DTO, countQuery = "select count(b) from Book b")
+    Page<BookResponseDto> findAllResponseDtos(Pageable pageable);
+
+    @Query(SELECT_RESPONSE_DTO + " where b.id = :id")
+    Optional<BookResponseDto> findResponseDtoById(@Param("id") Long id);
+
+    @Query(SELECT_RESPONSE_DTO + " where b.id in :ids")
+    List<BookResponseDto> findResponseDtosByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(SELECT_RESPONSE_DTO + " where b.id > :id order by b.id")
+    List<BookResponseDto> findResponseDtosByIdGreaterThan(@Param("id") Long id, Limit limit);
+
+    @Query("select b.status, count(b) from Book b group by b.status")
+    List<Object[]> countByStatus();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Book b set b.status = :status, b.version = b.version + 1, b.updatedAt = instant "
+            + "where b.id = :id and b.status = :expected")
+    int updateStatusByIdAndStatus(@Param("id") Long id, @Param("expected") BookStatusEnum expected,
+                                  @Param("status") BookStatusEnum status);
 
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Book b where b.id = :id and b.status <> :status")
+    int deleteByIdAndStatusNot(@Param("id") Long id, @Param("status") BookStatusEnum status);
 }
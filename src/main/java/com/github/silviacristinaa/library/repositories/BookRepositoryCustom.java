@@ -0,0 +1,23 @@
+package com.github.silviacristinaa.library.repositories;
+
+import com.github.silviacristinaa.library.dtos.requests.BookFilterRequestDto;
+import com.github.silviacristinaa.library.dtos.responses.BookResponseDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.stream.Stream;
+
+public interface BookRepositoryCustom {
+
+    /**
+     * Streams every book in id order through a forward-only cursor. Rows are projected straight into DTOs, so
+     * nothing accumulates in the persistence context. Must be consumed inside a transaction and closed afterwards.
+     */
+    Stream<BookResponseDto> streamAll(int fetchSize);
+
+    /**
+     * Pages through the books matching every non-blank criterion: exact status, exact author and title prefix.
+     * Each criterion is backed by an index from changeset 5.
+     */
+    Page<BookResponseDto> findAllByFilter(BookFilterRequestDto filter, Pageable pageable);
+}
@@ -0,0 +1,98 @@
+package com.github.silviacristinaa.library.repositories;
+
+import com.github.silviacristinaa.library.dtos.requests.BookFilterRequestDto;
+import com.github.silviacristinaa.library.dtos.responses.BookResponseDto;
+import com.github.silviacristinaa.library.entities.Book;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class BookRepositoryCustomImpl implements BookRepositoryCustom {
+
+    private static final String STREAM_ALL = BookRepository.SELECT_RESPONSE_DTO + " order by b.id";
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Stream<BookResponseDto> streamAll(int fetchSize) {
+        return entityManager.createQuery(STREAM_ALL, BookResponseDto.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public Page<BookResponseDto> findAllByFilter(BookFilterRequestDto filter, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<BookResponseDto> query = criteriaBuilder.createQuery(BookResponseDto.class);
+        Root<Book> book = query.from(Book.class);
+        query.select(criteriaBuilder.construct(BookResponseDto.class, book.get("id"), book.get("title"),
+                        book.get("author"), book.get("status"), book.get("version"), book.get("updatedAt")))
+                .where(toPredicates(criteriaBuilder, book, filter))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), book, criteriaBuilder));
+
+        TypedQuery<BookResponseDto> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+        }
+
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable, () -> count(filter));
+    }
+
+    private long count(BookFilterRequestDto filter) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<Book> book = query.from(Book.class);
+        query.select(criteriaBuilder.count(book)).where(toPredicates(criteriaBuilder, book, filter));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static Predicate[] toPredicates(CriteriaBuilder criteriaBuilder, Root<Book> book,
+                                            BookFilterRequestDto filter) {
+        List<Predicate> predicates = new ArrayList<>(3);
+
+        if (filter.getStatus() != null) {
+            predicates.add(criteriaBuilder.equal(book.get("status"), filter.getStatus()));
+        }
+        if (StringUtils.hasText(filter.getAuthor())) {
+            predicates.add(criteriaBuilder.equal(book.get("author"), filter.getAuthor()));
+        }
+        if (StringUtils.hasText(filter.getTitle())) {
+            // A prefix without leading wildcard keeps the predicate sargable, so the title index can be range-scanned
+            predicates.add(criteriaBuilder.like(book.get("title"), escapeLike(filter.getTitle()) + "%", LIKE_ESCAPE));
+        }
+
+        return predicates.toArray(Predicate[]::new);
+    }
+
+    static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,18 @@
+package com.github.silviacristinaa.library.repositories;
+
+import com.github.silviacristinaa.library.entities.IdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, String> {
+
+    @Modifying
+    @Query("delete from IdempotencyKey k where k.createdAt < :createdAt")
+    int deleteByCreatedAtBefore(@Param("createdAt") Instant createdAt);
+}
@@ -0,0 +1,46 @@
+package com.github.silviacristinaa.library.resources;
+
+import com.github.silviacristinaa.library.dtos.responses.BookEventResponseDto;
+import com.github.silviacristinaa.library.exceptions.BadRequestException;
+import com.github.silviacristinaa.library.services.BookEventService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RestController
+@RequestMapping(value = "/books/events")
+@RequiredArgsConstructor
+@Tag(name = "Books", description = "Book management service")
+public class BookEventResource {
+
+    private static final String STREAM = "/stream";
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+
+    private final BookEventService bookEventService;
+
+    @Operation(summary = "Get changes after a stream position")
+    @GetMapping
+    @ResponseStatus(value = HttpStatus.OK)
+    public ResponseEntity<List<BookEventResponseDto>> findAfter(@RequestParam(defaultValue = "0") long after,
+                                                                @RequestParam(defaultValue = "100") int limit)
+            throws BadRequestException {
+        return ResponseEntity.ok(bookEventService.findAfter(after, limit));
+    }
+
+    @Operation(summary = "Stream changes after a stream position")
+    @GetMapping(value = STREAM, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestHeader(value = LAST_EVENT_ID, required = false) Long lastEventId,
+                             @RequestParam(defaultValue = "0") long after) throws BadRequestException {
+        // A reconnecting EventSource sends the last id it saw, which wins over the position it first asked for
+        return bookEventService.subscribe(lastEventId != null ? lastEventId : after);
+    }
+}
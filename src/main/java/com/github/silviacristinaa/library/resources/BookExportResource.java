@@ -0,0 +1,38 @@
+package com.github.silviacristinaa.library.resources;
+
+import com.github.silviacristinaa.library.enums.FileFormatEnum;
+import com.github.silviacristinaa.library.services.BookExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RestController
+@RequestMapping(value = "/books/export")
+@RequiredArgsConstructor
+@Tag(name = "Books", description = "Book management service")
+public class BookExportResource {
+
+    private static final String FILE_NAME = "books.";
+
+    private final BookExportService bookExportService;
+
+    @Operation(summary = "Export all")
+    @GetMapping
+    @ResponseStatus(value = HttpStatus.OK)
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "NDJSON") FileFormatEnum format) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(FILE_NAME + format.getExtension()).build().toString())
+                .body(outputStream -> bookExportService.export(format, outputStream));
+    }
+}
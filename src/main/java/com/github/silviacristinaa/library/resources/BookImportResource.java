@@ -0,0 +1,83 @@
+package com.github.silviacristinaa.library.resources;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.silviacristinaa.library.dtos.responses.ImportJobResponseDto;
+import com.github.silviacristinaa.library.enums.FileFormatEnum;
+import com.github.silviacristinaa.library.exceptions.BadRequestException;
+import com.github.silviacristinaa.library.exceptions.ExpectedExceptionFactory;
+import com.github.silviacristinaa.library.exceptions.NotFoundException;
+import com.github.silviacristinaa.library.services.BookImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RestController
+@RequestMapping(value = "/books/imports")
+@RequiredArgsConstructor
+@Tag(name = "Books", description = "Book management service")
+public class BookImportResource {
+
+    private static final String ID = "/{id}";
+    private static final String UNSUPPORTED_CONTENT_TYPE = "Content type must be application/x-ndjson or text/csv";
+
+    private final BookImportService bookImportService;
+    private final ObjectMapper objectMapper;
+    private final ExpectedExceptionFactory expectedExceptionFactory;
+
+    /**
+     * Answers {@code 202} with the job and its {@code Location} as soon as the job starts, then reads the upload on
+     * the async executor; the response ends when the import does. The client polls the job for progress meanwhile.
+     */
+    @Operation(summary = "Import from NDJSON or CSV")
+    @PostMapping
+    @ResponseStatus(value = HttpStatus.ACCEPTED)
+    public ResponseEntity<StreamingResponseBody> importBooks(
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            @RequestParam(required = false) Integer batchSize,
+            InputStream inputStream) throws BadRequestException, IOException {
+        FileFormatEnum format = FileFormatEnum.fromContentType(contentType)
+                .orElseThrow(() -> expectedExceptionFactory.badRequest(UNSUPPORTED_CONTENT_TYPE));
+
+        ImportJobResponseDto job = bookImportService.startImport(format, batchSize);
+        URI uri = ServletUriComponentsBuilder.fromCurrentRequest().path(ID).buildAndExpand(job.getId()).toUri();
+        byte[] started = objectMapper.writeValueAsBytes(job);
+
+        return ResponseEntity.accepted()
+                .location(uri)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(outputStream -> {
+                    // Commits the status and Location before the upload is read
+                    outputStream.write(started);
+                    outputStream.flush();
+                    bookImportService.runImport(job.getId(), inputStream);
+                });
+    }
+
+    @Operation(summary = "Get all import jobs")
+    @GetMapping
+    @ResponseStatus(value = HttpStatus.OK)
+    public ResponseEntity<List<ImportJobResponseDto>> findAllJobs() {
+        return ResponseEntity.ok(bookImportService.findAllJobs());
+    }
+
+    @Operation(summary = "Get import job by id")
+    @GetMapping(value = ID)
+    @ResponseStatus(value = HttpStatus.OK)
+    public ResponseEntity<ImportJobResponseDto> findJobById(@PathVariable String id) throws NotFoundException {
+        return ResponseEntity.ok(bookImportService.findJobById(id));
+    }
+}
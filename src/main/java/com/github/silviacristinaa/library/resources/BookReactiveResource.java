@@ -0,0 +1,111 @@
+package com.github.silviacristinaa.library.resources;
+
+import com.github.silviacristinaa.library.dtos.requests.BookFilterRequestDto;
+import com.github.silviacristinaa.library.dtos.requests.BookRequestDto;
+import com.github.silviacristinaa.library.dtos.requests.BookStatusRequestDto;
+import com.github.silviacristinaa.library.dtos.responses.BookResponseDto;
+import com.github.silviacristinaa.library.dtos.responses.PageResponseDto;
+import com.github.silviacristinaa.library.services.BookReactiveService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+/**
+ * The core {@code /books} contract of {@link BookResource} served by WebFlux over R2DBC, active when the
+ * {@code reactive} profile switches the application to a reactive web server. Bulk, cursor, search, import,
+ * export, statistics and Idempotency-Key handling stay on the servlet stack.
+ */
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RestController
+@RequestMapping(value = "/books")
+@RequiredArgsConstructor
+@Tag(name = "Books", description = "Book management service")
+public class BookReactiveResource {
+
+    private static final String ID = "/{id}";
+    private static final String BORROW = "/{id}/borrow";
+    private static final String RETURN = "/{id}/return";
+
+    private final BookReactiveService bookReactiveService;
+
+    @Operation(summary = "Get all")
+    @GetMapping
+    @ResponseStatus(value = HttpStatus.OK)
+    public Mono<ResponseEntity<PageResponseDto<BookResponseDto>>> findAll(BookFilterRequestDto bookFilterRequestDto,
+                                                                          Pageable pageable) {
+        return bookReactiveService.findAll(bookFilterRequestDto, pageable)
+                .map(page -> ResponseEntity.ok().eTag(BookResource.pageETag(page)).varyBy(HttpHeaders.ACCEPT)
+                        .body(PageResponseDto.of(page)));
+    }
+
+    @Operation(summary = "Get by id")
+    @GetMapping(value = ID)
+    @ResponseStatus(value = HttpStatus.OK)
+    public Mono<ResponseEntity<BookResponseDto>> findById(@PathVariable Long id) {
+        // A matching If-None-Match or If-Modified-Since turns this into a 304 before the body is serialized
+        return bookReactiveService.findOneBookById(id)
+                .map(book -> ResponseEntity.ok().eTag(BookResource.bookETag(book))
+                        .lastModified(book.getUpdatedAt()).varyBy(HttpHeaders.ACCEPT).body(book));
+    }
+
+    @Operation(summary = "Create")
+    @PostMapping
+    @ResponseStatus(value = HttpStatus.CREATED)
+    public Mono<ResponseEntity<Void>> create(@RequestBody @Valid BookRequestDto bookRequestDto,
+                                             ServerHttpRequest request) {
+        return bookReactiveService.create(bookRequestDto).map(id -> {
+            URI uri = UriComponentsBuilder.fromUri(request.getURI()).path(ID).buildAndExpand(id).toUri();
+            return ResponseEntity.created(uri).build();
+        });
+    }
+
+    @Operation(summary = "Patch status")
+    @PatchMapping(value = ID)
+    @ResponseStatus(value = HttpStatus.NO_CONTENT)
+    public Mono<ResponseEntity<Void>> updateBookStatus(@PathVariable Long id,
+                                                       @RequestBody BookStatusRequestDto bookStatusRequestDto) {
+        return bookReactiveService.updateBookStatus(id, bookStatusRequestDto)
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    @Operation(summary = "Borrow")
+    @PostMapping(value = BORROW)
+    @ResponseStatus(value = HttpStatus.NO_CONTENT)
+    public Mono<ResponseEntity<Void>> borrow(@PathVariable Long id) {
+        return bookReactiveService.borrow(id).then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    @Operation(summary = "Return")
+    @PostMapping(value = RETURN)
+    @ResponseStatus(value = HttpStatus.NO_CONTENT)
+    public Mono<ResponseEntity<Void>> giveBack(@PathVariable Long id) {
+        return bookReactiveService.giveBack(id).then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    @Operation(summary = "Update")
+    @PutMapping(value = ID)
+    @ResponseStatus(value = HttpStatus.NO_CONTENT)
+    public Mono<ResponseEntity<Void>> update(@PathVariable Long id,
+                                             @RequestBody @Valid BookRequestDto bookRequestDto) {
+        return bookReactiveService.update(id, bookRequestDto).then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    @Operation(summary = "Delete")
+    @DeleteMapping(value = ID)
+    @ResponseStatus(value = HttpStatus.NO_CONTENT)
+    public Mono<ResponseEntity<Void>> delete(@PathVariable Long id) {
+        return bookReactiveService.delete(id).then(Mono.just(ResponseEntity.noContent().build()));
+    }
+}
@@ -1,25 +1,41 @@
 package com.github.silviacristinaa.library.resources;
 
+import com.github.silviacristinaa.library.dtos.requests.BookBulkStatusRequestDto;
+import com.github.silviacristinaa.library.dtos.requests.BookBulkUpdateRequestDto;
+import com.github.silviacristinaa.library.dtos.requests.BookFilterRequestDto;
 import com.github.silviacristinaa.library.dtos.requests.BookRequestDto;
 import com.github.silviacristinaa.library.dtos.requests.BookStatusRequestDto;
+import com.github.silviacristinaa.library.dtos.responses.BookLookupResponseDto;
 import com.github.silviacristinaa.library.dtos.responses.BookResponseDto;
+import com.github.silviacristinaa.library.dtos.responses.BulkResponseDto;
+import com.github.silviacristinaa.library.dtos.responses.CursorPageResponseDto;
+import com.github.silviacristinaa.library.dtos.responses.PageResponseDto;
 import com.github.silviacristinaa.library.exceptions.BadRequestException;
+import com.github.silviacristinaa.library.exceptions.ConflictException;
 import com.github.silviacristinaa.library.exceptions.NotFoundException;
+import com.github.silviacristinaa.library.services.BookIdempotencyService;
 import com.github.silviacristinaa.library.services.BookService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RestController
 @RequestMapping(value = "/books")
 @RequiredArgsConstructor
@@ -27,41 +43,120 @@ import java.net.URI;
 public class BookResource {
 
     private static final String ID = "/{id}";
+    private static final String CURSOR = "/cursor";
+    private static final String BULK = "/bulk";
+    private static final String BULK_STATUS = "/bulk/status";
+    private static final String BULK_LOOKUP = "/bulk/lookup";
+    private static final String BORROW = "/{id}/borrow";
+    private static final String RETURN = "/{id}/return";
+
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
 
     private final BookService bookService;
+    private final BookIdempotencyService bookIdempotencyService;
 
     @Operation(summary = "Get all")
     @GetMapping
     @ResponseStatus(value = HttpStatus.OK)
-    public ResponseEntity<Page<BookResponseDto>> findAll(@ParameterObject Pageable pageable) {
-        return ResponseEntity.ok(bookService.findAll(pageable));
+    public ResponseEntity<PageResponseDto<BookResponseDto>> findAll(
+            @ParameterObject BookFilterRequestDto bookFilterRequestDto, @ParameterObject Pageable pageable) {
+        Page<BookResponseDto> page = bookService.findAll(bookFilterRequestDto, pageable);
+        return ResponseEntity.ok().eTag(pageETag(page)).varyBy(HttpHeaders.ACCEPT).body(PageResponseDto.of(page));
+    }
+
+    @Operation(summary = "Get all by cursor")
+    @GetMapping(value = CURSOR)
+    @ResponseStatus(value = HttpStatus.OK)
+    public ResponseEntity<CursorPageResponseDto<BookResponseDto>> findAllByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) throws BadRequestException {
+        return ResponseEntity.ok(bookService.findAllByCursor(cursor, size));
     }
 
     @Operation(summary = "Get by id")
     @GetMapping(value = ID)
     @ResponseStatus(value = HttpStatus.OK)
     public ResponseEntity<BookResponseDto> findById(@PathVariable Long id) throws NotFoundException {
-        return ResponseEntity.ok(bookService.findOneBookById(id));
+        // A matching If-None-Match or If-Modified-Since turns this into a 304 before the body is serialized
+        BookResponseDto book = bookService.findOneBookById(id);
+        if (book.getVersion() == null) {
+            // A status change is still waiting to be written, so there is no version to validate against yet
+            return ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).body(book);
+        }
+        return ResponseEntity.ok().eTag(bookETag(book)).lastModified(book.getUpdatedAt())
+                .varyBy(HttpHeaders.ACCEPT).body(book);
     }
 
     @Operation(summary = "Create")
     @PostMapping
     @ResponseStatus(value = HttpStatus.CREATED)
-    public ResponseEntity<Void> create(@RequestBody @Valid BookRequestDto bookRequestDto) {
-        URI uri = ServletUriComponentsBuilder
-                .fromCurrentRequest().path(ID).buildAndExpand(bookService.create(bookRequestDto).getId()).toUri();
+    public ResponseEntity<Void> create(@RequestBody @Valid BookRequestDto bookRequestDto,
+                                       @RequestHeader(value = IDEMPOTENCY_KEY, required = false)
+                                       String idempotencyKey) throws BadRequestException {
+        // A repeated key gets the Location of the book its first request created
+        Long id = idempotencyKey == null ? bookService.create(bookRequestDto).getId()
+                : bookIdempotencyService.create(idempotencyKey, bookRequestDto);
+        URI uri = ServletUriComponentsBuilder.fromCurrentRequest().path(ID).buildAndExpand(id).toUri();
         return ResponseEntity.created(uri).build();
     }
 
+    @Operation(summary = "Get many by id")
+    @PostMapping(value = BULK_LOOKUP)
+    @ResponseStatus(value = HttpStatus.OK)
+    public ResponseEntity<BookLookupResponseDto> findAllById(@RequestBody List<Long> ids) throws BadRequestException {
+        return ResponseEntity.ok(bookService.findAllBooksById(ids));
+    }
+
+    @Operation(summary = "Create many")
+    @PostMapping(value = BULK)
+    @ResponseStatus(value = HttpStatus.OK)
+    public ResponseEntity<BulkResponseDto> createAll(
+            @RequestBody List<BookRequestDto> bookRequestDtos) throws BadRequestException {
+        return ResponseEntity.ok(bookService.createAll(bookRequestDtos));
+    }
+
+    @Operation(summary = "Update many")
+    @PutMapping(value = BULK)
+    @ResponseStatus(value = HttpStatus.OK)
+    public ResponseEntity<BulkResponseDto> updateAll(
+            @RequestBody List<BookBulkUpdateRequestDto> bookBulkUpdateRequestDtos) throws BadRequestException {
+        return ResponseEntity.ok(bookService.updateAll(bookBulkUpdateRequestDtos));
+    }
+
+    @Operation(summary = "Patch status of many")
+    @PatchMapping(value = BULK_STATUS)
+    @ResponseStatus(value = HttpStatus.OK)
+    public ResponseEntity<BulkResponseDto> updateAllBookStatus(
+            @RequestBody @Valid BookBulkStatusRequestDto bookBulkStatusRequestDto) throws BadRequestException {
+        return ResponseEntity.ok(bookService.updateAllBookStatus(bookBulkStatusRequestDto));
+    }
+
     @Operation(summary = "Patch status")
     @PatchMapping(value = ID)
     @ResponseStatus(value = HttpStatus.NO_CONTENT)
     public ResponseEntity<Void> updateBookStatus(
-            @PathVariable Long id, @RequestBody BookStatusRequestDto bookStatusRequestDto) throws NotFoundException {
+            @PathVariable Long id, @RequestBody BookStatusRequestDto bookStatusRequestDto)
+            throws NotFoundException, IOException {
         bookService.updateBookStatus(id, bookStatusRequestDto);
         return ResponseEntity.noContent().build();
     }
 
+    @Operation(summary = "Borrow")
+    @PostMapping(value = BORROW)
+    @ResponseStatus(value = HttpStatus.NO_CONTENT)
+    public ResponseEntity<Void> borrow(@PathVariable Long id) throws NotFoundException, ConflictException {
+        bookService.borrow(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Return")
+    @PostMapping(value = RETURN)
+    @ResponseStatus(value = HttpStatus.NO_CONTENT)
+    public ResponseEntity<Void> giveBack(@PathVariable Long id) throws NotFoundException, ConflictException {
+        bookService.giveBack(id);
+        return ResponseEntity.noContent().build();
+    }
+
     @Operation(summary = "Update")
     @PutMapping(value = ID)
     @ResponseStatus(value = HttpStatus.NO_CONTENT)
@@ -78,4 +173,25 @@ public class BookResource {
         bookService.delete(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Weak, as it names the book's version rather than its bytes, for the same reasons as {@link #pageETag}.
+     */
+    static String bookETag(BookResponseDto book) {
+        return "W/\"" + book.getVersion() + "\"";
+    }
+
+    /**
+     * Weak, as it names the page's state rather than its bytes: the same page is sent as JSON, CBOR or Smile, with
+     * or without gzip, and Tomcat does not compress responses that carry a strong ETag. Responses that carry it vary
+     * by Accept, so a cache keeps one copy per format.
+     */
+    static String pageETag(Page<BookResponseDto> page) {
+        StringBuilder versions = new StringBuilder()
+                .append(page.getNumber()).append(':').append(page.getSize()).append(':')
+                .append(page.getTotalElements()).append(':').append(page.getSort());
+        page.forEach(book -> versions.append(':').append(book.getId()).append('.').append(book.getVersion()));
+
+        return "W/\"" + DigestUtils.md5DigestAsHex(versions.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
 }
@@ -0,0 +1,44 @@
+package com.github.silviacristinaa.library.resources;
+
+import com.github.silviacristinaa.library.dtos.responses.BookResponseDto;
+import com.github.silviacristinaa.library.dtos.responses.SearchIndexResponseDto;
+import com.github.silviacristinaa.library.exceptions.BadRequestException;
+import com.github.silviacristinaa.library.services.BookSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.List;
+
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RestController
+@RequestMapping(value = "/books/search")
+@RequiredArgsConstructor
+@Tag(name = "Books", description = "Book management service")
+public class BookSearchResource {
+
+    private static final String INDEX = "/index";
+
+    private final BookSearchService bookSearchService;
+
+    @Operation(summary = "Search by title and author")
+    @GetMapping
+    @ResponseStatus(value = HttpStatus.OK)
+    public ResponseEntity<List<BookResponseDto>> search(@RequestParam(required = false) String q,
+                                                        @RequestParam(defaultValue = "20") int limit)
+            throws BadRequestException, IOException {
+        return ResponseEntity.ok(bookSearchService.search(q, limit));
+    }
+
+    @Operation(summary = "Rebuild search index from the database")
+    @PostMapping(value = INDEX)
+    @ResponseStatus(value = HttpStatus.OK)
+    public ResponseEntity<SearchIndexResponseDto> rebuild() throws IOException {
+        return ResponseEntity.ok(new SearchIndexResponseDto(bookSearchService.rebuild()));
+    }
+}
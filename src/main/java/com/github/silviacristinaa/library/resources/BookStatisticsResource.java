@@ -0,0 +1,37 @@
+package com.github.silviacristinaa.library.resources;
+
+import com.github.silviacristinaa.library.dtos.responses.BookStatisticsResponseDto;
+import com.github.silviacristinaa.library.services.BookStatisticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RestController
+@RequestMapping(value = "/books/statistics")
+@RequiredArgsConstructor
+@Tag(name = "Books", description = "Book management service")
+public class BookStatisticsResource {
+
+    private static final String RECONCILE = "/reconcile";
+
+    private final BookStatisticsService bookStatisticsService;
+
+    @Operation(summary = "Get counts by status")
+    @GetMapping
+    @ResponseStatus(value = HttpStatus.OK)
+    public ResponseEntity<BookStatisticsResponseDto> getStatistics() {
+        return ResponseEntity.ok(bookStatisticsService.getStatistics());
+    }
+
+    @Operation(summary = "Recount by status from the database")
+    @PostMapping(value = RECONCILE)
+    @ResponseStatus(value = HttpStatus.OK)
+    public ResponseEntity<BookStatisticsResponseDto> reconcile() {
+        return ResponseEntity.ok(bookStatisticsService.reconcile());
+    }
+}
@@ -0,0 +1,21 @@
+package com.github.silviacristinaa.library.services;
+
+import com.github.silviacristinaa.library.dtos.responses.BookEventResponseDto;
+import com.github.silviacristinaa.library.entities.BookEvent;
+import com.github.silviacristinaa.library.exceptions.BadRequestException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+public interface BookEventService {
+
+    void record(List<BookEvent> events);
+
+    int relay();
+
+    List<BookEventResponseDto> findAfter(long position, int limit) throws BadRequestException;
+
+    SseEmitter subscribe(long position) throws BadRequestException;
+
+    int purge();
+}
@@ -0,0 +1,11 @@
+package com.github.silviacristinaa.library.services;
+
+import com.github.silviacristinaa.library.enums.FileFormatEnum;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface BookExportService {
+
+    void export(FileFormatEnum format, OutputStream outputStream) throws IOException;
+}
@@ -0,0 +1,11 @@
+package com.github.silviacristinaa.library.services;
+
+import com.github.silviacristinaa.library.dtos.requests.BookRequestDto;
+import com.github.silviacristinaa.library.exceptions.BadRequestException;
+
+public interface BookIdempotencyService {
+
+    Long create(String idempotencyKey, BookRequestDto bookRequestDto) throws BadRequestException;
+
+    int purge();
+}
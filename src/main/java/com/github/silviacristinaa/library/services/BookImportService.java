@@ -0,0 +1,20 @@
+package com.github.silviacristinaa.library.services;
+
+import com.github.silviacristinaa.library.dtos.responses.ImportJobResponseDto;
+import com.github.silviacristinaa.library.enums.FileFormatEnum;
+import com.github.silviacristinaa.library.exceptions.BadRequestException;
+import com.github.silviacristinaa.library.exceptions.NotFoundException;
+
+import java.io.InputStream;
+import java.util.List;
+
+public interface BookImportService {
+
+    ImportJobResponseDto startImport(FileFormatEnum format, Integer batchSize) throws BadRequestException;
+
+    ImportJobResponseDto runImport(String id, InputStream inputStream);
+
+    ImportJobResponseDto findJobById(String id) throws NotFoundException;
+
+    List<ImportJobResponseDto> findAllJobs();
+}
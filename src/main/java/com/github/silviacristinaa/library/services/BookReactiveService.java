@@ -0,0 +1,28 @@
+package com.github.silviacristinaa.library.services;
+
+import com.github.silviacristinaa.library.dtos.requests.BookFilterRequestDto;
+import com.github.silviacristinaa.library.dtos.requests.BookRequestDto;
+import com.github.silviacristinaa.library.dtos.requests.BookStatusRequestDto;
+import com.github.silviacristinaa.library.dtos.responses.BookResponseDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Mono;
+
+public interface BookReactiveService {
+
+    Mono<Page<BookResponseDto>> findAll(BookFilterRequestDto bookFilterRequestDto, Pageable pageable);
+
+    Mono<BookResponseDto> findOneBookById(Long id);
+
+    Mono<Long> create(BookRequestDto bookRequestDto);
+
+    Mono<Void> updateBookStatus(Long id, BookStatusRequestDto bookStatusRequestDto);
+
+    Mono<Void> borrow(Long id);
+
+    Mono<Void> giveBack(Long id);
+
+    Mono<Void> update(Long id, BookRequestDto bookRequestDto);
+
+    Mono<Void> delete(Long id);
+}
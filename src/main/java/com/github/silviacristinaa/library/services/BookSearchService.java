@@ -0,0 +1,20 @@
+package com.github.silviacristinaa.library.services;
+
+import com.github.silviacristinaa.library.dtos.responses.BookResponseDto;
+import com.github.silviacristinaa.library.entities.Book;
+import com.github.silviacristinaa.library.exceptions.BadRequestException;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+
+public interface BookSearchService {
+
+    List<BookResponseDto> search(String query, int limit) throws BadRequestException, IOException;
+
+    void index(Collection<Book> books);
+
+    void remove(Collection<Long> ids);
+
+    long rebuild() throws IOException;
+}
@@ -1,23 +1,47 @@
 package com.github.silviacristinaa.library.services;
 
+import com.github.silviacristinaa.library.dtos.requests.BookBulkStatusRequestDto;
+import com.github.silviacristinaa.library.dtos.requests.BookBulkUpdateRequestDto;
+import com.github.silviacristinaa.library.dtos.requests.BookFilterRequestDto;
 import com.github.silviacristinaa.library.dtos.requests.BookRequestDto;
 import com.github.silviacristinaa.library.dtos.requests.BookStatusRequestDto;
+import com.github.silviacristinaa.library.dtos.responses.BookLookupResponseDto;
 import com.github.silviacristinaa.library.dtos.responses.BookResponseDto;
+import com.github.silviacristinaa.library.dtos.responses.BulkResponseDto;
+import com.github.silviacristinaa.library.dtos.responses.CursorPageResponseDto;
 import com.github.silviacristinaa.library.entities.Book;
 import com.github.silviacristinaa.library.exceptions.BadRequestException;
+import com.github.silviacristinaa.library.exceptions.ConflictException;
 import com.github.silviacristinaa.library.exceptions.NotFoundException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.io.IOException;
+import java.util.List;
+
 public interface BookService {
 
-    Page<BookResponseDto> findAll(Pageable pageable);
+    Page<BookResponseDto> findAll(BookFilterRequestDto bookFilterRequestDto, Pageable pageable);
+
+    CursorPageResponseDto<BookResponseDto> findAllByCursor(String cursor, int size) throws BadRequestException;
 
     BookResponseDto findOneBookById(Long id) throws NotFoundException;
 
+    BookLookupResponseDto findAllBooksById(List<Long> ids) throws BadRequestException;
+
     Book create(BookRequestDto bookRequestDto);
 
-    void updateBookStatus(Long id, BookStatusRequestDto bookStatusRequestDto) throws NotFoundException;
+    BulkResponseDto createAll(List<BookRequestDto> bookRequestDtos) throws BadRequestException;
+
+    BulkResponseDto updateAll(List<BookBulkUpdateRequestDto> bookBulkUpdateRequestDtos) throws BadRequestException;
+
+    BulkResponseDto updateAllBookStatus(BookBulkStatusRequestDto bookBulkStatusRequestDto) throws BadRequestException;
+
+    void updateBookStatus(Long id, BookStatusRequestDto bookStatusRequestDto) throws NotFoundException, IOException;
+
+    void borrow(Long id) throws NotFoundException, ConflictException;
+
+    void giveBack(Long id) throws NotFoundException, ConflictException;
 
     void update(Long id, BookRequestDto bookRequestDto) throws NotFoundException;
 
@@ -0,0 +1,15 @@
+package com.github.silviacristinaa.library.services;
+
+import com.github.silviacristinaa.library.dtos.responses.BookStatisticsResponseDto;
+import com.github.silviacristinaa.library.enums.BookStatusEnum;
+
+public interface BookStatisticsService {
+
+    BookStatisticsResponseDto getStatistics();
+
+    void add(BookStatusEnum status, long delta);
+
+    void move(BookStatusEnum from, BookStatusEnum to, long count);
+
+    BookStatisticsResponseDto reconcile();
+}
@@ -0,0 +1,22 @@
+package com.github.silviacristinaa.library.services;
+
+import com.github.silviacristinaa.library.enums.BookStatusEnum;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Optional;
+
+public interface BookStatusWriteBehindService {
+
+    boolean isEnabled();
+
+    void append(Long id, BookStatusEnum status) throws IOException;
+
+    Optional<BookStatusEnum> pendingStatus(Long id);
+
+    void flush(Collection<Long> ids);
+
+    int flush() throws IOException;
+
+    int recover() throws IOException;
+}
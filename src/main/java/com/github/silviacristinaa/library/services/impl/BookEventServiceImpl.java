@@ -0,0 +1,292 @@
+package com.github.silviacristinaa.library.services.impl;
+
+import com.github.silviacristinaa.library.dtos.responses.BookEventResponseDto;
+import com.github.silviacristinaa.library.entities.BookEvent;
+import com.github.silviacristinaa.library.exceptions.BadRequestException;
+import com.github.silviacristinaa.library.exceptions.ExpectedExceptionFactory;
+import com.github.silviacristinaa.library.repositories.BookEventRepository;
+import com.github.silviacristinaa.library.services.BookEventService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Transactional outbox for book changes. Every write records its events in the same transaction as the change, so
+ * an event exists if and only if the change committed. The relay then numbers committed events with gap-free,
+ * increasing stream positions and hands them to the open streams.
+ * <p>
+ * Events are picked up in id order, and ids come from a pooled sequence: with several instances each hands out its
+ * own block, so ids do not follow commit order. Within a batch the relay numbers each book's events in the order of
+ * the book version they carry, but a book's events split across two batches can still be numbered out of order.
+ * Consumers keeping the latest state of a book should therefore skip an event whose {@code bookVersion} is not above
+ * the last one they applied; a deletion carries no version and is final.
+ * <p>
+ * Consumers resume from the last position they saw, either by polling or through the stream's
+ * {@code Last-Event-ID}. Each stream catches up from the table before going live and buffers at most
+ * {@code library.events.subscriber-buffer} events; a consumer that falls further behind is disconnected and
+ * resumes from the table instead of holding memory. Relayed events are purged after the retention period.
+ */
+@Slf4j
+@Service
+public class BookEventServiceImpl implements BookEventService {
+
+    private static final String INVALID_POSITION = "Position must not be negative";
+    private static final String INVALID_LIMIT = "Limit must be between 1 and %s";
+
+    private static final int MAX_LIMIT = 1000;
+    private static final Comparator<BookEvent> BOOK_VERSION_ORDER = Comparator.comparing(BookEvent::getBookVersion,
+            Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final BookEventRepository bookEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ExpectedExceptionFactory expectedExceptionFactory;
+    private final int batchSize;
+    private final Duration retention;
+    private final Duration streamTimeout;
+    private final int subscriberBuffer;
+
+    private final ReentrantLock relayLock = new ReentrantLock();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService deliveryExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public BookEventServiceImpl(BookEventRepository bookEventRepository,
+                                PlatformTransactionManager transactionManager,
+                                ExpectedExceptionFactory expectedExceptionFactory,
+                                @Value("${library.events.batch-size:500}") int batchSize,
+                                @Value("${library.events.retention:7d}") Duration retention,
+                                @Value("${library.events.stream-timeout:30m}") Duration streamTimeout,
+                                @Value("${library.events.subscriber-buffer:10000}") int subscriberBuffer) {
+        this.bookEventRepository = bookEventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.expectedExceptionFactory = expectedExceptionFactory;
+        this.batchSize = batchSize;
+        this.retention = retention;
+        this.streamTimeout = streamTimeout;
+        this.subscriberBuffer = subscriberBuffer;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(List<BookEvent> events) {
+        if (!events.isEmpty()) {
+            bookEventRepository.saveAll(events);
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${library.events.relay-interval:200ms}")
+    public int relay() {
+        if (!relayLock.tryLock()) {
+            return 0;
+        }
+
+        try {
+            int relayed = 0;
+            int size;
+            do {
+                List<BookEventResponseDto> batch = transactionTemplate.execute(transactionStatus -> numberNextBatch());
+                // Only committed positions reach the streams, so a rolled back batch is never seen
+                subscribers.forEach(subscriber -> subscriber.offer(batch));
+                size = batch.size();
+                relayed += size;
+            } while (size == batchSize);
+            return relayed;
+        } finally {
+            relayLock.unlock();
+        }
+    }
+
+    @Override
+    public List<BookEventResponseDto> findAfter(long position, int limit) throws BadRequestException {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw expectedExceptionFactory.badRequest(String.format(INVALID_LIMIT, MAX_LIMIT));
+        }
+        return readAfter(validPosition(position), limit);
+    }
+
+    @Override
+    public SseEmitter subscribe(long position) throws BadRequestException {
+        Subscriber subscriber = new Subscriber(new SseEmitter(streamTimeout.toMillis()), validPosition(position));
+        // Registered before catching up, so nothing relayed in between is missed
+        subscribers.add(subscriber);
+        deliveryExecutor.execute(subscriber::catchUp);
+        return subscriber.emitter;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${library.events.purge-interval:1h}")
+    public int purge() {
+        Integer purged = transactionTemplate.execute(transactionStatus ->
+                bookEventRepository.deleteRelayedByOccurredAtBefore(Instant.now().minus(retention)));
+        log.debug("Purged {} book events", purged);
+        return purged == null ? 0 : purged;
+    }
+
+    /**
+     * Ends open streams as soon as shutdown starts; graceful shutdown would otherwise wait on them until it times
+     * out. Clients reconnect with their {@code Last-Event-ID} and lose nothing.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void closeStreams() {
+        subscribers.forEach(Subscriber::disconnect);
+    }
+
+    @PreDestroy
+    public void close() {
+        closeStreams();
+        deliveryExecutor.shutdownNow();
+    }
+
+    private List<BookEventResponseDto> numberNextBatch() {
+        List<BookEvent> events = bookEventRepository.findByStreamPositionIsNullOrderById(Limit.of(batchSize));
+        if (events.isEmpty()) {
+            return List.of();
+        }
+
+        // Each book keeps the positions its events were picked up at, filled in version order
+        Map<Long, Queue<BookEvent>> byBook = events.stream().sorted(BOOK_VERSION_ORDER)
+                .collect(Collectors.groupingBy(BookEvent::getBookId, Collectors.toCollection(ArrayDeque::new)));
+        List<BookEvent> numbered = new ArrayList<>(events.size());
+        long position = bookEventRepository.findMaxStreamPosition();
+        for (BookEvent slot : events) {
+            BookEvent event = byBook.get(slot.getBookId()).remove();
+            event.setStreamPosition(++position);
+            numbered.add(event);
+        }
+        return bookEventRepository.saveAll(numbered).stream().map(BookEventServiceImpl::toResponseDto).toList();
+    }
+
+    private List<BookEventResponseDto> readAfter(long position, int limit) {
+        return bookEventRepository.findByStreamPositionGreaterThanOrderByStreamPosition(position, Limit.of(limit))
+                .stream().map(BookEventServiceImpl::toResponseDto).toList();
+    }
+
+    private long validPosition(long position) throws BadRequestException {
+        if (position < 0) {
+            throw expectedExceptionFactory.badRequest(INVALID_POSITION);
+        }
+        return position;
+    }
+
+    private static BookEventResponseDto toResponseDto(BookEvent event) {
+        return new BookEventResponseDto(event.getStreamPosition(), event.getBookId(), event.getBookVersion(),
+                event.getType(), event.getTitle(), event.getAuthor(), event.getStatus(), event.getOccurredAt());
+    }
+
+    /**
+     * One open stream. Sends happen one at a time under the lock and skip anything at or below the last position
+     * sent, which covers the overlap between catching up and the first live events.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Queue<BookEventResponseDto> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final ReentrantLock sendLock = new ReentrantLock();
+        private volatile boolean live;
+        private long lastSent;
+
+        private Subscriber(SseEmitter emitter, long position) {
+            this.emitter = emitter;
+            this.lastSent = position;
+            emitter.onCompletion(() -> subscribers.remove(this));
+            emitter.onTimeout(emitter::complete);
+            emitter.onError(error -> subscribers.remove(this));
+        }
+
+        private void offer(List<BookEventResponseDto> events) {
+            if (events.isEmpty() || !subscribers.contains(this)) {
+                return;
+            }
+            if (queued.addAndGet(events.size()) > subscriberBuffer) {
+                log.debug("Closing a book event stream that fell {} events behind", queued.get());
+                disconnect();
+                return;
+            }
+            queue.addAll(events);
+            if (live) {
+                deliveryExecutor.execute(this::drain);
+            }
+        }
+
+        private void catchUp() {
+            sendLock.lock();
+            try {
+                List<BookEventResponseDto> page;
+                do {
+                    page = readAfter(lastSent, batchSize);
+                    for (BookEventResponseDto event : page) {
+                        send(event);
+                    }
+                } while (page.size() == batchSize);
+                live = true;
+            } catch (IOException | RuntimeException e) {
+                disconnect();
+                return;
+            } finally {
+                sendLock.unlock();
+            }
+            drain();
+        }
+
+        private void drain() {
+            sendLock.lock();
+            try {
+                BookEventResponseDto event;
+                while ((event = queue.poll()) != null) {
+                    queued.decrementAndGet();
+                    if (event.getPosition() > lastSent) {
+                        send(event);
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                disconnect();
+            } finally {
+                sendLock.unlock();
+            }
+        }
+
+        private void send(BookEventResponseDto event) throws IOException {
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(event.getPosition()))
+                    .name(event.getType().name())
+                    .data(event, MediaType.APPLICATION_JSON));
+            lastSent = event.getPosition();
+        }
+
+        private void disconnect() {
+            subscribers.remove(this);
+            queue.clear();
+            emitter.complete();
+        }
+    }
+}
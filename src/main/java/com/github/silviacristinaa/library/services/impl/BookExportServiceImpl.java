@@ -0,0 +1,88 @@
+package com.github.silviacristinaa.library.services.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.silviacristinaa.library.dtos.responses.BookResponseDto;
+import com.github.silviacristinaa.library.enums.FileFormatEnum;
+import com.github.silviacristinaa.library.repositories.BookRepository;
+import com.github.silviacristinaa.library.services.BookExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+@Service
+public class BookExportServiceImpl implements BookExportService {
+
+    private static final String CSV_HEADER = "id,title,author,status";
+
+    private final BookRepository bookRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${library.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void export(FileFormatEnum format, OutputStream outputStream) throws IOException {
+        try (Stream<BookResponseDto> books = bookRepository.streamAll(fetchSize)) {
+            if (format == FileFormatEnum.CSV) {
+                writeCsv(books.iterator(), outputStream);
+            } else {
+                writeNdjson(books.iterator(), outputStream);
+            }
+        }
+    }
+
+    private void writeNdjson(Iterator<BookResponseDto> books, OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(BookResponseDto.class);
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            while (books.hasNext()) {
+                writer.writeValue(generator, books.next());
+                generator.writeRaw('\n');
+            }
+        }
+    }
+
+    private static void writeCsv(Iterator<BookResponseDto> books, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        while (books.hasNext()) {
+            BookResponseDto book = books.next();
+            writer.write(String.valueOf(book.getId()));
+            writer.write(',');
+            writer.write(escapeCsv(book.getTitle()));
+            writer.write(',');
+            writer.write(escapeCsv(book.getAuthor()));
+            writer.write(',');
+            writer.write(book.getStatus().name());
+            writer.write('\n');
+        }
+
+        writer.flush();
+    }
+
+    private static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,154 @@
+package com.github.silviacristinaa.library.services.impl;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.silviacristinaa.library.dtos.requests.BookRequestDto;
+import com.github.silviacristinaa.library.entities.IdempotencyKey;
+import com.github.silviacristinaa.library.exceptions.BadRequestException;
+import com.github.silviacristinaa.library.exceptions.ExpectedExceptionFactory;
+import com.github.silviacristinaa.library.repositories.IdempotencyKeyRepository;
+import com.github.silviacristinaa.library.services.BookIdempotencyService;
+import com.github.silviacristinaa.library.services.BookService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Dedupes {@code POST /books} retries by {@code Idempotency-Key}. Keys live in a bounded in-process cache that
+ * expires them after the configured TTL; the first request for a key inserts the book while concurrent ones wait on
+ * its result, so each key costs a single insert. With {@code library.idempotency.persistent} the key is also stored
+ * in the same transaction as the book, which carries the guarantee across restarts and instances. Repeats are
+ * answered from the key alone and never read the book table.
+ */
+@Slf4j
+@Service
+public class BookIdempotencyServiceImpl implements BookIdempotencyService {
+
+    private static final String INVALID_IDEMPOTENCY_KEY = "Idempotency-Key must be between 1 and %s characters";
+    private static final String IDEMPOTENCY_KEY_REUSED = "Idempotency-Key %s was already used with a different body";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final BookService bookService;
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ExpectedExceptionFactory expectedExceptionFactory;
+    private final AsyncCache<String, Created> keys;
+    private final Duration ttl;
+    private final boolean persistent;
+
+    public BookIdempotencyServiceImpl(BookService bookService, IdempotencyKeyRepository idempotencyKeyRepository,
+                                      PlatformTransactionManager transactionManager,
+                                      ExpectedExceptionFactory expectedExceptionFactory,
+                                      @Value("${library.idempotency.ttl:24h}") Duration ttl,
+                                      @Value("${library.idempotency.maximum-size:100000}") long maximumSize,
+                                      @Value("${library.idempotency.persistent:false}") boolean persistent) {
+        this.bookService = bookService;
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.expectedExceptionFactory = expectedExceptionFactory;
+        this.keys = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl).buildAsync();
+        this.ttl = ttl;
+        this.persistent = persistent;
+    }
+
+    @Override
+    public Long create(String idempotencyKey, BookRequestDto bookRequestDto) throws BadRequestException {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw expectedExceptionFactory.badRequest(String.format(INVALID_IDEMPOTENCY_KEY, MAX_KEY_LENGTH));
+        }
+
+        String fingerprint = fingerprint(bookRequestDto);
+        Created created = createOnce(idempotencyKey, bookRequestDto, fingerprint);
+        while (created == null) {
+            // The request that owned the key failed and released it; this one takes over
+            created = createOnce(idempotencyKey, bookRequestDto, fingerprint);
+        }
+
+        if (!created.fingerprint().equals(fingerprint)) {
+            throw expectedExceptionFactory.badRequest(String.format(IDEMPOTENCY_KEY_REUSED, idempotencyKey));
+        }
+        return created.bookId();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${library.idempotency.purge-interval:10m}")
+    public int purge() {
+        if (!persistent) {
+            return 0;
+        }
+
+        Integer purged = transactionTemplate.execute(
+                transactionStatus -> idempotencyKeyRepository.deleteByCreatedAtBefore(Instant.now().minus(ttl)));
+        log.debug("Purged {} idempotency keys", purged);
+        return purged == null ? 0 : purged;
+    }
+
+    /**
+     * Returns {@code null} when another request held the key and failed, so the caller should try again.
+     */
+    private Created createOnce(String idempotencyKey, BookRequestDto bookRequestDto, String fingerprint) {
+        CompletableFuture<Created> owned = new CompletableFuture<>();
+        CompletableFuture<Created> existing = keys.asMap().putIfAbsent(idempotencyKey, owned);
+
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                return null;
+            }
+        }
+
+        try {
+            Created created = persistent ? insertPersistent(idempotencyKey, bookRequestDto, fingerprint)
+                    : new Created(bookService.create(bookRequestDto).getId(), fingerprint);
+            owned.complete(created);
+            return created;
+        } catch (RuntimeException e) {
+            keys.asMap().remove(idempotencyKey, owned);
+            owned.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private Created insertPersistent(String idempotencyKey, BookRequestDto bookRequestDto, String fingerprint) {
+        Created stored = idempotencyKeyRepository.findById(idempotencyKey).map(Created::of).orElse(null);
+        if (stored != null) {
+            return stored;
+        }
+
+        try {
+            return transactionTemplate.execute(transactionStatus -> {
+                Long bookId = bookService.create(bookRequestDto).getId();
+                idempotencyKeyRepository.save(new IdempotencyKey(idempotencyKey, bookId, fingerprint, Instant.now()));
+                return new Created(bookId, fingerprint);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Another instance stored the key first; its book stands and this insert was rolled back
+            return idempotencyKeyRepository.findById(idempotencyKey).map(Created::of).orElseThrow(() -> e);
+        }
+    }
+
+    private static String fingerprint(BookRequestDto bookRequestDto) {
+        return DigestUtils.md5DigestAsHex((bookRequestDto.getTitle() + '\0' + bookRequestDto.getAuthor())
+                .getBytes(StandardCharsets.UTF_8));
+    }
+
+    private record Created(Long bookId, String fingerprint) {
+
+        static Created of(IdempotencyKey idempotencyKey) {
+            return new Created(idempotencyKey.getBookId(), idempotencyKey.getFingerprint());
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package com.github.silviacristinaa.library.services.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.silviacristinaa.library.dtos.requests.BookRequestDto;
+import com.github.silviacristinaa.library.dtos.responses.BulkItemResponseDto;
+import com.github.silviacristinaa.library.dtos.responses.BulkResponseDto;
+import com.github.silviacristinaa.library.dtos.responses.ImportJobResponseDto;
+import com.github.silviacristinaa.library.enums.FileFormatEnum;
+import com.github.silviacristinaa.library.exceptions.BadRequestException;
+import com.github.silviacristinaa.library.exceptions.ExpectedExceptionFactory;
+import com.github.silviacristinaa.library.exceptions.NotFoundException;
+import com.github.silviacristinaa.library.services.BookImportService;
+import com.github.silviacristinaa.library.services.BookService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+@Service
+public class BookImportServiceImpl implements BookImportService {
+
+    private static final String IMPORT_JOB_NOT_FOUND = "Import job %s not found";
+    private static final String INVALID_BATCH_SIZE = "Batch size must be between 1 and %s";
+    private static final String INVALID_CSV_HEADER = "CSV header must contain title and author columns";
+    private static final String UNTERMINATED_QUOTED_FIELD = "Unterminated quoted field";
+    private static final String MISSING_COLUMNS = "Expected at least %s columns";
+
+    private static final String TITLE = "title";
+    private static final String AUTHOR = "author";
+
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final int MAX_JOBS = 100;
+
+    private final BookService bookService;
+    private final ObjectReader bookRequestReader;
+    private final ExpectedExceptionFactory expectedExceptionFactory;
+    private final int defaultBatchSize;
+
+    private final Cache<String, ImportJob> jobs = Caffeine.newBuilder()
+            .maximumSize(MAX_JOBS)
+            .expireAfterWrite(Duration.ofDays(1))
+            .build();
+
+    public BookImportServiceImpl(BookService bookService, ObjectMapper objectMapper,
+                                 ExpectedExceptionFactory expectedExceptionFactory,
+                                 @Value("${library.import.batch-size:500}") int defaultBatchSize) {
+        this.bookService = bookService;
+        this.bookRequestReader = objectMapper.readerFor(BookRequestDto.class);
+        this.expectedExceptionFactory = expectedExceptionFactory;
+        this.defaultBatchSize = defaultBatchSize;
+    }
+
+    @Override
+    public ImportJobResponseDto startImport(FileFormatEnum format, Integer batchSize) throws BadRequestException {
+        int size = batchSize == null ? defaultBatchSize : batchSize;
+        if (size < 1 || size > MAX_BATCH_SIZE) {
+            throw expectedExceptionFactory.badRequest(String.format(INVALID_BATCH_SIZE, MAX_BATCH_SIZE));
+        }
+
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), format, size);
+        jobs.put(job.getId(), job);
+        return job.toResponseDto();
+    }
+
+    @Override
+    public ImportJobResponseDto runImport(String id, InputStream inputStream) {
+        ImportJob job = jobs.getIfPresent(id);
+        if (job == null) {
+            throw new IllegalStateException(String.format(IMPORT_JOB_NOT_FOUND, id));
+        }
+
+        // Records are read only as fast as batches are committed, so a fast sender is held back by TCP flow control
+        try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+            if (job.getFormat() == FileFormatEnum.CSV) {
+                readCsv(job, new CsvRecordReader(reader));
+            } else {
+                readNdjson(job, new BufferedReader(reader));
+            }
+            job.complete();
+        } catch (BadRequestException | IOException | RuntimeException e) {
+            job.abort(e.getMessage());
+        }
+
+        return job.toResponseDto();
+    }
+
+    @Override
+    public ImportJobResponseDto findJobById(String id) throws NotFoundException {
+        ImportJob job = jobs.getIfPresent(id);
+        if (job == null) {
+            throw expectedExceptionFactory.notFound(String.format(IMPORT_JOB_NOT_FOUND, id));
+        }
+        return job.toResponseDto();
+    }
+
+    @Override
+    public List<ImportJobResponseDto> findAllJobs() {
+        return jobs.asMap().values().stream()
+                .map(ImportJob::toResponseDto)
+                .sorted(Comparator.comparing(ImportJobResponseDto::getStartedAt).reversed())
+                .toList();
+    }
+
+    private void readNdjson(ImportJob job, BufferedReader reader) throws BadRequestException, IOException {
+        List<BookRequestDto> batch = new ArrayList<>(job.getBatchSize());
+        List<Long> batchLines = new ArrayList<>(job.getBatchSize());
+        long lineNumber = 0;
+        String line;
+
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            job.linesRead(1);
+
+            if (line.isBlank()) {
+                continue;
+            }
+
+            try {
+                batch.add(readNdjsonRecord(line));
+                batchLines.add(lineNumber);
+            } catch (IllegalArgumentException e) {
+                job.failed(lineNumber, e.getMessage());
+            }
+
+            if (batch.size() == job.getBatchSize()) {
+                flush(job, batch, batchLines);
+            }
+        }
+
+        flush(job, batch, batchLines);
+    }
+
+    private void readCsv(ImportJob job, CsvRecordReader reader) throws BadRequestException, IOException {
+        List<BookRequestDto> batch = new ArrayList<>(job.getBatchSize());
+        List<Long> batchLines = new ArrayList<>(job.getBatchSize());
+        int[] columns = null;
+
+        while (true) {
+            long lineNumber = reader.getLinesRead() + 1;
+            List<String> fields;
+            try {
+                fields = reader.read();
+            } catch (IllegalArgumentException e) {
+                job.linesRead(reader.getLinesRead() - lineNumber + 1);
+                job.failed(lineNumber, e.getMessage());
+                continue;
+            }
+            if (fields == null) {
+                break;
+            }
+            job.linesRead(reader.getLinesRead() - lineNumber + 1);
+
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+
+            if (columns == null) {
+                columns = readCsvHeader(fields);
+                continue;
+            }
+
+            try {
+                batch.add(readCsvRecord(fields, columns));
+                batchLines.add(lineNumber);
+            } catch (IllegalArgumentException e) {
+                job.failed(lineNumber, e.getMessage());
+            }
+
+            if (batch.size() == job.getBatchSize()) {
+                flush(job, batch, batchLines);
+            }
+        }
+
+        flush(job, batch, batchLines);
+    }
+
+    private void flush(ImportJob job, List<BookRequestDto> batch, List<Long> batchLines) throws BadRequestException {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        BulkResponseDto response = bookService.createAll(new ArrayList<>(batch));
+        job.imported(response.getSucceeded());
+
+        for (BulkItemResponseDto item : response.getItems()) {
+            if (item.getError() != null) {
+                job.failed(batchLines.get(item.getIndex()), item.getError());
+            }
+        }
+
+        batch.clear();
+        batchLines.clear();
+    }
+
+    private BookRequestDto readNdjsonRecord(String line) {
+        try {
+            return bookRequestReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e.getOriginalMessage());
+        }
+    }
+
+    private int[] readCsvHeader(List<String> fields) throws BadRequestException {
+        List<String> header = fields.stream().map(column -> column.trim().toLowerCase(Locale.ROOT)).toList();
+        int title = header.indexOf(TITLE);
+        int author = header.indexOf(AUTHOR);
+
+        if (title < 0 || author < 0) {
+            throw expectedExceptionFactory.badRequest(INVALID_CSV_HEADER);
+        }
+        return new int[]{title, author};
+    }
+
+    private static BookRequestDto readCsvRecord(List<String> fields, int[] columns) {
+        int required = Math.max(columns[0], columns[1]) + 1;
+
+        if (fields.size() < required) {
+            throw new IllegalArgumentException(String.format(MISSING_COLUMNS, required));
+        }
+        return new BookRequestDto(fields.get(columns[0]), fields.get(columns[1]));
+    }
+
+    /**
+     * Reads one RFC 4180 record at a time. A quoted field may contain line breaks, as the CSV export writes them, so
+     * a record can span several lines; {@link #getLinesRead()} counts the physical lines consumed so far.
+     */
+    private static final class CsvRecordReader {
+
+        private final Reader reader;
+        private final char[] buffer = new char[8192];
+        private int position;
+        private int limit;
+        private long linesRead;
+
+        private CsvRecordReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        long getLinesRead() {
+            return linesRead;
+        }
+
+        /**
+         * Returns the next record's fields, or {@code null} at the end of the input. A quoted field still open at the
+         * end of the input fails the record with {@link IllegalArgumentException}; the input is consumed either way.
+         */
+        List<String> read() throws IOException {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            int last = -1;
+            int c;
+
+            while ((c = next()) >= 0) {
+                last = c;
+
+                if (quoted) {
+                    if (c != '"') {
+                        if (c == '\n') {
+                            linesRead++;
+                        }
+                        field.append((char) c);
+                    } else if (peek() == '"') {
+                        field.append('"');
+                        position++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n' || c == '\r') {
+                    if (c == '\r' && peek() == '\n') {
+                        position++;
+                    }
+                    linesRead++;
+                    fields.add(field.toString());
+                    return fields;
+                } else {
+                    field.append((char) c);
+                }
+            }
+
+            if (last < 0) {
+                return null;
+            }
+            // A last line without a line break still counts
+            if (last != '\n' && last != '\r') {
+                linesRead++;
+            }
+            if (quoted) {
+                throw new IllegalArgumentException(UNTERMINATED_QUOTED_FIELD);
+            }
+
+            fields.add(field.toString());
+            return fields;
+        }
+
+        private int next() throws IOException {
+            return fill() ? buffer[position++] : -1;
+        }
+
+        private int peek() throws IOException {
+            return fill() ? buffer[position] : -1;
+        }
+
+        private boolean fill() throws IOException {
+            if (position < limit) {
+                return true;
+            }
+            limit = reader.read(buffer);
+            position = 0;
+            return limit > 0;
+        }
+    }
+}
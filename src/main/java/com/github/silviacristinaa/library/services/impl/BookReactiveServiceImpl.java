@@ -0,0 +1,159 @@
+package com.github.silviacristinaa.library.services.impl;
+
+import com.github.silviacristinaa.library.dtos.requests.BookFilterRequestDto;
+import com.github.silviacristinaa.library.dtos.requests.BookRequestDto;
+import com.github.silviacristinaa.library.dtos.requests.BookStatusRequestDto;
+import com.github.silviacristinaa.library.dtos.responses.BookResponseDto;
+import com.github.silviacristinaa.library.entities.BookRecord;
+import com.github.silviacristinaa.library.enums.BookStatusEnum;
+import com.github.silviacristinaa.library.exceptions.BadRequestException;
+import com.github.silviacristinaa.library.exceptions.ConflictException;
+import com.github.silviacristinaa.library.exceptions.ExpectedExceptionFactory;
+import com.github.silviacristinaa.library.exceptions.NotFoundException;
+import com.github.silviacristinaa.library.mappers.BookMapper;
+import com.github.silviacristinaa.library.repositories.BookReactiveRepository;
+import com.github.silviacristinaa.library.services.BookReactiveService;
+import com.github.silviacristinaa.library.services.BookSearchService;
+import com.github.silviacristinaa.library.services.BookStatisticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Non-blocking counterpart of {@link BookServiceImpl} for the reactive stack, with the same messages and status
+ * rules. Every write is a single statement, so no reactive transaction manager is needed; the Lucene index is
+ * blocking and is updated on the bounded elastic scheduler.
+ */
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@Service
+public class BookReactiveServiceImpl implements BookReactiveService {
+
+    private static final String CANNOT_DELETE_BOOK_WITH_BORROWED_STATUS = "Cannot delete a book with borrowed status";
+    private static final String BOOK_NOT_FOUND = "Book %s not found";
+    private static final String BOOK_ALREADY_BORROWED = "Book %s is already borrowed";
+    private static final String BOOK_NOT_BORROWED = "Book %s is not borrowed";
+
+    private final BookReactiveRepository bookReactiveRepository;
+    private final BookMapper bookMapper;
+    private final BookSearchService bookSearchService;
+    private final BookStatisticsService bookStatisticsService;
+    private final ExpectedExceptionFactory expectedExceptionFactory;
+
+    @Override
+    public Mono<Page<BookResponseDto>> findAll(BookFilterRequestDto bookFilterRequestDto, Pageable pageable) {
+        return bookReactiveRepository.findAllByFilter(bookFilterRequestDto, pageable)
+                .map(page -> page.map(bookMapper::recordToResponseDto));
+    }
+
+    @Override
+    public Mono<BookResponseDto> findOneBookById(Long id) {
+        return findById(id).map(bookMapper::recordToResponseDto);
+    }
+
+    @Override
+    public Mono<Long> create(BookRequestDto bookRequestDto) {
+        return bookReactiveRepository.nextId()
+                .map(id -> new BookRecord(id, bookRequestDto.getTitle(), bookRequestDto.getAuthor(),
+                        BookStatusEnum.AVAILABLE, null, Instant.now()))
+                .flatMap(bookReactiveRepository::save)
+                .flatMap(book -> index(book).doOnSuccess(ignored ->
+                        bookStatisticsService.add(BookStatusEnum.AVAILABLE, 1)).thenReturn(book.getId()));
+    }
+
+    @Override
+    public Mono<Void> updateBookStatus(Long id, BookStatusRequestDto bookStatusRequestDto) {
+        BookStatusEnum status = bookStatusRequestDto.getStatus();
+
+        // Tries each other status as the expected one, so the counters learn which status the row came from
+        return Flux.fromArray(BookStatusEnum.values())
+                .filter(expected -> expected != status)
+                .concatMap(expected -> bookReactiveRepository.updateStatusByIdAndStatus(id, expected, status)
+                        .filter(updated -> updated == 1)
+                        .map(updated -> expected))
+                .next()
+                .doOnNext(expected -> bookStatisticsService.move(expected, status, 1))
+                .switchIfEmpty(Mono.defer(() -> bookReactiveRepository.existsById(id)
+                        .flatMap(exists -> exists ? Mono.empty() : Mono.error(notFound(id)))))
+                .then();
+    }
+
+    @Override
+    public Mono<Void> borrow(Long id) {
+        return transitionStatus(id, BookStatusEnum.AVAILABLE, BookStatusEnum.BORROWED, BOOK_ALREADY_BORROWED);
+    }
+
+    @Override
+    public Mono<Void> giveBack(Long id) {
+        return transitionStatus(id, BookStatusEnum.BORROWED, BookStatusEnum.AVAILABLE, BOOK_NOT_BORROWED);
+    }
+
+    @Override
+    public Mono<Void> update(Long id, BookRequestDto bookRequestDto) {
+        return findById(id)
+                .flatMap(book -> {
+                    book.setTitle(bookRequestDto.getTitle());
+                    book.setAuthor(bookRequestDto.getAuthor());
+                    book.setUpdatedAt(Instant.now());
+                    return bookReactiveRepository.save(book);
+                })
+                .flatMap(this::index);
+    }
+
+    @Override
+    public Mono<Void> delete(Long id) {
+        // The status check is part of the DELETE statement, so a concurrent borrow cannot slip in between
+        return bookReactiveRepository.deleteByIdAndStatusNot(id, BookStatusEnum.BORROWED)
+                .flatMap(deleted -> {
+                    if (deleted == 0) {
+                        return bookReactiveRepository.existsById(id).flatMap(exists -> Mono.error(exists
+                                ? expectedExceptionFactory.badRequest(CANNOT_DELETE_BOOK_WITH_BORROWED_STATUS)
+                                : notFound(id)));
+                    }
+
+                    // Only a book that is not borrowed can be deleted, which leaves AVAILABLE
+                    bookStatisticsService.add(BookStatusEnum.AVAILABLE, -1);
+                    return Mono.fromRunnable(() -> bookSearchService.remove(List.of(id)))
+                            .subscribeOn(Schedulers.boundedElastic());
+                })
+                .then();
+    }
+
+    private Mono<Void> transitionStatus(Long id, BookStatusEnum expected, BookStatusEnum status,
+                                        String conflictMessage) {
+        return bookReactiveRepository.updateStatusByIdAndStatus(id, expected, status)
+                .flatMap(updated -> {
+                    if (updated == 0) {
+                        return bookReactiveRepository.existsById(id).flatMap(exists -> Mono.error(exists
+                                ? expectedExceptionFactory.conflict(String.format(conflictMessage, id))
+                                : notFound(id)));
+                    }
+
+                    bookStatisticsService.move(expected, status, 1);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private Mono<BookRecord> findById(Long id) {
+        return bookReactiveRepository.findById(id).switchIfEmpty(Mono.error(() -> notFound(id)));
+    }
+
+    private Mono<Void> index(BookRecord book) {
+        return Mono.fromRunnable(() -> bookSearchService.index(List.of(bookMapper.recordToEntity(book))))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+
+    private NotFoundException notFound(Long id) {
+        return expectedExceptionFactory.notFound(String.format(BOOK_NOT_FOUND, id));
+    }
+}
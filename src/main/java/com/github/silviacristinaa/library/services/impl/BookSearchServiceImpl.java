@@ -0,0 +1,313 @@
+package com.github.silviacristinaa.library.services.impl;
+
+import com.github.silviacristinaa.library.dtos.responses.BookResponseDto;
+import com.github.silviacristinaa.library.entities.Book;
+import com.github.silviacristinaa.library.exceptions.BadRequestException;
+import com.github.silviacristinaa.library.exceptions.ExpectedExceptionFactory;
+import com.github.silviacristinaa.library.repositories.BookRepository;
+import com.github.silviacristinaa.library.services.BookSearchService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Embedded Lucene index over book titles and authors. The index only holds ids and analyzed text: matches are
+ * hydrated from the database, so status changes never need reindexing and stale entries are simply skipped.
+ * Index updates issued inside a transaction are applied after it commits.
+ * <p>
+ * A rebuild upserts every book into the live writer without refreshing, so searches keep the previous point-in-time
+ * view until it commits. Updates committed meanwhile are held back and applied after the snapshot, because the
+ * snapshot may have read a book before they changed it; books the snapshot did not see are then deleted by their
+ * missing rebuild generation.
+ */
+@Slf4j
+@Service
+public class BookSearchServiceImpl implements BookSearchService {
+
+    private static final String QUERY_MUST_NOT_BE_BLANK = "Query must not be blank";
+    private static final String INVALID_LIMIT = "Limit must be between 1 and %s";
+
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String AUTHOR = "author";
+    private static final String GENERATION = "generation";
+
+    private static final float TITLE_BOOST = 2f;
+    private static final float EXACT_TERM_BOOST = 2f;
+    private static final int MAX_LIMIT = 100;
+
+    private final BookRepository bookRepository;
+    private final ExpectedExceptionFactory expectedExceptionFactory;
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory;
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager;
+    private final int fetchSize;
+    private final boolean rebuildOnStartup;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final ReadWriteLock updateLock = new ReentrantReadWriteLock();
+    private final Queue<IndexAction> heldBack = new ConcurrentLinkedQueue<>();
+    private boolean rebuilding;
+
+    public BookSearchServiceImpl(BookRepository bookRepository, ExpectedExceptionFactory expectedExceptionFactory,
+                                 @Value("${library.search.index-path:}") String indexPath,
+                                 @Value("${library.export.fetch-size:1000}") int fetchSize,
+                                 @Value("${library.search.rebuild-on-startup:true}") boolean rebuildOnStartup)
+            throws IOException {
+        this.bookRepository = bookRepository;
+        this.expectedExceptionFactory = expectedExceptionFactory;
+        this.directory = indexPath.isBlank() ? new ByteBuffersDirectory() : FSDirectory.open(Path.of(indexPath));
+        this.indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        this.searcherManager = new SearcherManager(indexWriter, null);
+        this.fetchSize = fetchSize;
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    @Override
+    public List<BookResponseDto> search(String query, int limit) throws BadRequestException, IOException {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw expectedExceptionFactory.badRequest(String.format(INVALID_LIMIT, MAX_LIMIT));
+        }
+
+        List<String> tokens = query == null ? List.of() : analyze(query);
+        if (tokens.isEmpty()) {
+            throw expectedExceptionFactory.badRequest(QUERY_MUST_NOT_BE_BLANK);
+        }
+
+        List<Long> ids = new ArrayList<>(limit);
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            for (ScoreDoc scoreDoc : searcher.search(toQuery(tokens), limit).scoreDocs) {
+                ids.add(Long.valueOf(searcher.storedFields().document(scoreDoc.doc).get(ID)));
+            }
+        } finally {
+            searcherManager.release(searcher);
+        }
+
+        Map<Long, Book> books = bookRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+
+        return ids.stream().map(books::get).filter(Objects::nonNull)
+                .map(book -> new BookResponseDto(book.getId(), book.getTitle(), book.getAuthor(), book.getStatus(),
+                        book.getVersion(), book.getUpdatedAt()))
+                .toList();
+    }
+
+    @Override
+    public void index(Collection<Book> books) {
+        // Copies the fields now, the entities may still change before the transaction commits
+        List<Document> documents = books.stream().map(BookSearchServiceImpl::toDocument).toList();
+
+        afterCommit(() -> {
+            for (Document document : documents) {
+                indexWriter.updateDocument(new Term(ID, document.get(ID)), document);
+            }
+        });
+    }
+
+    @Override
+    public void remove(Collection<Long> ids) {
+        Term[] terms = ids.stream().map(id -> new Term(ID, id.toString())).toArray(Term[]::new);
+
+        afterCommit(() -> indexWriter.deleteDocuments(terms));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long rebuild() throws IOException {
+        rebuildLock.lock();
+        try {
+            setRebuilding(true);
+
+            boolean completed = false;
+            long indexed = 0;
+            String generation = UUID.randomUUID().toString();
+            try (Stream<BookResponseDto> books = bookRepository.streamAll(fetchSize)) {
+                Iterator<BookResponseDto> iterator = books.iterator();
+                while (iterator.hasNext()) {
+                    BookResponseDto book = iterator.next();
+                    Document document = toDocument(book.getId(), book.getTitle(), book.getAuthor());
+                    document.add(new StringField(GENERATION, generation, Field.Store.NO));
+                    indexWriter.updateDocument(new Term(ID, book.getId().toString()), document);
+                    indexed++;
+                }
+                completed = true;
+            } finally {
+                finishRebuild(completed ? generation : null);
+            }
+            return indexed;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuildOnStartup() throws IOException {
+        if (rebuildOnStartup) {
+            log.info("Search index rebuilt with {} books", rebuild());
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+    }
+
+    private Query toQuery(List<String> tokens) {
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+
+        for (String token : tokens) {
+            BooleanQuery.Builder tokenQuery = new BooleanQuery.Builder();
+            addFieldClauses(tokenQuery, TITLE, token, TITLE_BOOST);
+            addFieldClauses(tokenQuery, AUTHOR, token, 1f);
+            query.add(tokenQuery.build(), BooleanClause.Occur.MUST);
+        }
+
+        return query.build();
+    }
+
+    private static void addFieldClauses(BooleanQuery.Builder query, String field, String token, float boost) {
+        Term term = new Term(field, token);
+        query.add(new BoostQuery(new TermQuery(term), boost * EXACT_TERM_BOOST), BooleanClause.Occur.SHOULD);
+        query.add(new BoostQuery(new PrefixQuery(term), boost), BooleanClause.Occur.SHOULD);
+    }
+
+    private List<String> analyze(String text) throws IOException {
+        List<String> tokens = new ArrayList<>();
+
+        try (TokenStream tokenStream = analyzer.tokenStream(TITLE, text)) {
+            CharTermAttribute term = tokenStream.addAttribute(CharTermAttribute.class);
+            tokenStream.reset();
+            while (tokenStream.incrementToken()) {
+                tokens.add(term.toString());
+            }
+            tokenStream.end();
+        }
+
+        return tokens;
+    }
+
+    private static Document toDocument(Book book) {
+        return toDocument(book.getId(), book.getTitle(), book.getAuthor());
+    }
+
+    private static Document toDocument(Long id, String title, String author) {
+        Document document = new Document();
+        document.add(new StringField(ID, id.toString(), Field.Store.YES));
+        document.add(new TextField(TITLE, title, Field.Store.NO));
+        document.add(new TextField(AUTHOR, author, Field.Store.NO));
+        return document;
+    }
+
+    private void afterCommit(IndexAction action) {
+        TransactionCallbacks.afterCommit(() -> apply(action));
+    }
+
+    private void apply(IndexAction action) {
+        updateLock.readLock().lock();
+        try {
+            if (rebuilding) {
+                heldBack.add(action);
+                return;
+            }
+            action.run();
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            updateLock.readLock().unlock();
+        }
+    }
+
+    private void setRebuilding(boolean rebuilding) {
+        updateLock.writeLock().lock();
+        try {
+            this.rebuilding = rebuilding;
+        } finally {
+            updateLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Deletes what the rebuild did not write, unless it failed part way, then applies the held back updates over the
+     * snapshot and publishes the result. Updates wait for the write lock meanwhile, so none slips in between.
+     */
+    private void finishRebuild(String generation) throws IOException {
+        updateLock.writeLock().lock();
+        try {
+            if (generation != null) {
+                indexWriter.deleteDocuments(new BooleanQuery.Builder()
+                        .add(new MatchAllDocsQuery(), BooleanClause.Occur.MUST)
+                        .add(new TermQuery(new Term(GENERATION, generation)), BooleanClause.Occur.MUST_NOT)
+                        .build());
+            }
+
+            IndexAction action;
+            while ((action = heldBack.poll()) != null) {
+                action.run();
+            }
+
+            indexWriter.commit();
+            searcherManager.maybeRefresh();
+        } finally {
+            rebuilding = false;
+            updateLock.writeLock().unlock();
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexAction {
+        void run() throws IOException;
+    }
+}
@@ -1,58 +1,385 @@
 package com.github.silviacristinaa.library.services.impl;
 
+import com.github.silviacristinaa.library.configs.CacheConfig;
+import com.github.silviacristinaa.library.dtos.requests.BookBulkStatusRequestDto;
+import com.github.silviacristinaa.library.dtos.requests.BookBulkUpdateRequestDto;
+import com.github.silviacristinaa.library.dtos.requests.BookFilterRequestDto;
 import com.github.silviacristinaa.library.dtos.requests.BookRequestDto;
 import com.github.silviacristinaa.library.dtos.requests.BookStatusRequestDto;
+import com.github.silviacristinaa.library.dtos.responses.BookLookupItemResponseDto;
+import com.github.silviacristinaa.library.dtos.responses.BookLookupResponseDto;
 import com.github.silviacristinaa.library.dtos.responses.BookResponseDto;
+import com.github.silviacristinaa.library.dtos.responses.BulkItemResponseDto;
+import com.github.silviacristinaa.library.dtos.responses.BulkResponseDto;
+import com.github.silviacristinaa.library.dtos.responses.CursorPageResponseDto;
 import com.github.silviacristinaa.library.entities.Book;
+import com.github.silviacristinaa.library.entities.BookEvent;
 import com.github.silviacristinaa.library.enums.BookStatusEnum;
 import com.github.silviacristinaa.library.exceptions.BadRequestException;
+import com.github.silviacristinaa.library.exceptions.ConflictException;
+import com.github.silviacristinaa.library.exceptions.ExpectedExceptionFactory;
 import com.github.silviacristinaa.library.exceptions.NotFoundException;
+import com.github.silviacristinaa.library.mappers.BookMapper;
 import com.github.silviacristinaa.library.repositories.BookRepository;
+import com.github.silviacristinaa.library.services.BookEventService;
+import com.github.silviacristinaa.library.services.BookSearchService;
 import com.github.silviacristinaa.library.services.BookService;
-import jakarta.transaction.Transactional;
+import com.github.silviacristinaa.library.services.BookStatisticsService;
+import com.github.silviacristinaa.library.services.BookStatusWriteBehindService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Timed("library.book.service")
 @RequiredArgsConstructor
 @Service
 public class BookServiceImpl implements BookService {
 
     private static final String CANNOT_DELETE_BOOK_WITH_BORROWED_STATUS = "Cannot delete a book with borrowed status";
     private static final String BOOK_NOT_FOUND = "Book %s not found";
+    private static final String BOOK_ALREADY_BORROWED = "Book %s is already borrowed";
+    private static final String BOOK_NOT_BORROWED = "Book %s is not borrowed";
+    private static final String BOOK_STATUS_CHANGED = "Book %s changed status meanwhile";
+    private static final String INVALID_CURSOR = "Invalid cursor";
+    private static final String INVALID_CURSOR_SIZE = "Size must be between 1 and %s";
+    private static final String INVALID_BULK_SIZE = "Bulk size must be between 1 and %s";
+    private static final String ITEM_MUST_NOT_BE_NULL = "must not be null";
+
+    private static final int MAX_CURSOR_SIZE = 100;
+    private static final int MAX_BULK_SIZE = 1000;
+    // Keeps each IN list well under driver bind-parameter limits and within a few padded plan-cache shapes
+    private static final int LOOKUP_CHUNK_SIZE = 500;
 
     private final BookRepository bookRepository;
-    private final ModelMapper modelMapper;
+    private final BookMapper bookMapper;
+    private final CacheManager cacheManager;
+    private final Validator validator;
+    private final BookSearchService bookSearchService;
+    private final BookStatisticsService bookStatisticsService;
+    private final BookStatusWriteBehindService bookStatusWriteBehindService;
+    private final BookEventService bookEventService;
+    private final ExpectedExceptionFactory expectedExceptionFactory;
+    private final SingleFlight<Long, BookResponseDto> bookLookups;
 
     @Override
-    public Page<BookResponseDto> findAll(Pageable pageable) {
-        return bookRepository.findAll(pageable).map(book -> modelMapper.map(book, BookResponseDto.class));
+    @Transactional(readOnly = true)
+    public Page<BookResponseDto> findAll(BookFilterRequestDto bookFilterRequestDto, Pageable pageable) {
+        if (bookFilterRequestDto.getStatus() == null && !StringUtils.hasText(bookFilterRequestDto.getAuthor())
+                && !StringUtils.hasText(bookFilterRequestDto.getTitle())) {
+            return bookRepository.findAllResponseDtos(pageable);
+        }
+
+        return bookRepository.findAllByFilter(bookFilterRequestDto, pageable);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<BookResponseDto> findAllByCursor(String cursor, int size) throws BadRequestException {
+        if (size < 1 || size > MAX_CURSOR_SIZE) {
+            throw expectedExceptionFactory.badRequest(String.format(INVALID_CURSOR_SIZE, MAX_CURSOR_SIZE));
+        }
+
+        // Fetches one extra row to know whether there is a next page without running a count query
+        List<BookResponseDto> books = bookRepository.findResponseDtosByIdGreaterThan(decodeCursor(cursor),
+                Limit.of(size + 1));
+
+        boolean hasNext = books.size() > size;
+        List<BookResponseDto> content = hasNext ? books.subList(0, size) : books;
+        String nextCursor = hasNext ? encodeCursor(content.get(content.size() - 1).getId()) : null;
+
+        return new CursorPageResponseDto<>(content, content.size(), nextCursor);
+    }
+
+    /**
+     * Concurrent misses on the same id wait for one query instead of each running their own. Not transactional,
+     * so callers waiting on that query do not hold a connection meanwhile, and a write may commit while it runs;
+     * writers put the book they produced, which the older copy read here cannot replace. A book with a pending
+     * status is not cached, its row is about to change.
+     */
+    @Override
+    @Cacheable(cacheNames = CacheConfig.BOOKS, key = "#id", unless = "#result.version == null")
     public BookResponseDto findOneBookById(Long id) throws NotFoundException {
-        Book book = findById(id);
-        return modelMapper.map(book, BookResponseDto.class);
+        return bookLookups.execute(id, () -> {
+            Optional<BookStatusEnum> pending = bookStatusWriteBehindService.pendingStatus(id);
+            BookResponseDto book = bookRepository.findResponseDtoById(id)
+                    .orElseThrow(() -> expectedExceptionFactory.notFound(String.format(BOOK_NOT_FOUND, id)));
+            return withPendingStatus(book, pending);
+        });
+    }
+
+    /**
+     * Answers warm ids from the books cache and the rest with one {@code IN} query per chunk, caching what it read
+     * the same way {@link #findOneBookById} does. Items keep the request order; duplicates resolve once.
+     */
+    @Override
+    public BookLookupResponseDto findAllBooksById(List<Long> ids) throws BadRequestException {
+        checkBulkSize(ids.size());
+
+        Cache cache = cacheManager.getCache(CacheConfig.BOOKS);
+        Map<Long, BookResponseDto> books = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+
+        for (Long id : new LinkedHashSet<>(ids)) {
+            BookResponseDto book = id == null || cache == null ? null : cache.get(id, BookResponseDto.class);
+            if (book != null) {
+                books.put(id, book);
+            } else if (id != null) {
+                misses.add(id);
+            }
+        }
+
+        for (int from = 0; from < misses.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<Long> chunk = misses.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, misses.size()));
+            Map<Long, BookStatusEnum> pending = new HashMap<>();
+            for (Long id : chunk) {
+                bookStatusWriteBehindService.pendingStatus(id).ifPresent(status -> pending.put(id, status));
+            }
+
+            for (BookResponseDto found : bookRepository.findResponseDtosByIdIn(chunk)) {
+                BookResponseDto book = withPendingStatus(found, Optional.ofNullable(pending.get(found.getId())));
+                books.put(book.getId(), book);
+                if (cache != null && book.getVersion() != null) {
+                    cache.put(book.getId(), book);
+                }
+            }
+        }
+
+        List<BookLookupItemResponseDto> items = new ArrayList<>(ids.size());
+        int found = 0;
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            BookResponseDto book = id == null ? null : books.get(id);
+
+            if (id == null) {
+                items.add(new BookLookupItemResponseDto(i, null, HttpStatus.BAD_REQUEST.value(), null,
+                        ITEM_MUST_NOT_BE_NULL));
+            } else if (book == null) {
+                items.add(new BookLookupItemResponseDto(i, id, HttpStatus.NOT_FOUND.value(), null,
+                        String.format(BOOK_NOT_FOUND, id)));
+            } else {
+                items.add(new BookLookupItemResponseDto(i, id, HttpStatus.OK.value(), book, null));
+                found++;
+            }
+        }
+
+        return new BookLookupResponseDto(found, items.size() - found, items);
     }
 
     @Override
     @Transactional
     public Book create(BookRequestDto bookRequestDto) {
-        Book book = modelMapper.map(bookRequestDto, Book.class);
+        Book book = bookMapper.toEntity(bookRequestDto);
         book.setStatus(BookStatusEnum.AVAILABLE);
 
-        return bookRepository.save(book);
+        Book savedBook = bookRepository.save(book);
+        bookEventService.record(List.of(BookEvent.created(savedBook)));
+        bookSearchService.index(List.of(savedBook));
+        bookStatisticsService.add(BookStatusEnum.AVAILABLE, 1);
+        return savedBook;
     }
 
     @Override
     @Transactional
-    public void updateBookStatus(Long id, BookStatusRequestDto bookStatusRequestDto) throws NotFoundException {
-        Book book = findById(id);
+    public BulkResponseDto createAll(List<BookRequestDto> bookRequestDtos) throws BadRequestException {
+        checkBulkSize(bookRequestDtos.size());
+
+        List<BulkItemResponseDto> items = new ArrayList<>(bookRequestDtos.size());
+        List<BulkItemResponseDto> createdItems = new ArrayList<>(bookRequestDtos.size());
+        List<Book> books = new ArrayList<>(bookRequestDtos.size());
+
+        for (int i = 0; i < bookRequestDtos.size(); i++) {
+            BookRequestDto bookRequestDto = bookRequestDtos.get(i);
+            String error = validate(bookRequestDto);
+
+            if (error != null) {
+                items.add(new BulkItemResponseDto(i, null, HttpStatus.BAD_REQUEST.value(), error));
+                continue;
+            }
 
-        book.setStatus(bookStatusRequestDto.getStatus());
-        bookRepository.save(book);
+            Book book = bookMapper.toEntity(bookRequestDto);
+            book.setStatus(BookStatusEnum.AVAILABLE);
+            books.add(book);
+
+            BulkItemResponseDto item = new BulkItemResponseDto(i, null, HttpStatus.CREATED.value(), null);
+            items.add(item);
+            createdItems.add(item);
+        }
+
+        // Ids come from the pooled sequence, so the inserts are sent to the database as JDBC batches
+        List<Book> savedBooks = bookRepository.saveAll(books);
+        for (int i = 0; i < savedBooks.size(); i++) {
+            createdItems.get(i).setId(savedBooks.get(i).getId());
+        }
+        bookEventService.record(savedBooks.stream().map(BookEvent::created).toList());
+        bookSearchService.index(savedBooks);
+        bookStatisticsService.add(BookStatusEnum.AVAILABLE, savedBooks.size());
+
+        return toBulkResponse(items);
+    }
+
+    @Override
+    @Transactional
+    public BulkResponseDto updateAll(List<BookBulkUpdateRequestDto> bookBulkUpdateRequestDtos)
+            throws BadRequestException {
+        checkBulkSize(bookBulkUpdateRequestDtos.size());
+
+        Map<Long, Book> books = findAllById(bookBulkUpdateRequestDtos.stream()
+                .filter(Objects::nonNull).map(BookBulkUpdateRequestDto::getId).filter(Objects::nonNull).toList());
+        List<BulkItemResponseDto> items = new ArrayList<>(bookBulkUpdateRequestDtos.size());
+        List<Book> updatedBooks = new ArrayList<>(bookBulkUpdateRequestDtos.size());
+
+        for (int i = 0; i < bookBulkUpdateRequestDtos.size(); i++) {
+            BookBulkUpdateRequestDto bookBulkUpdateRequestDto = bookBulkUpdateRequestDtos.get(i);
+            String error = validate(bookBulkUpdateRequestDto);
+
+            if (error != null) {
+                Long id = bookBulkUpdateRequestDto == null ? null : bookBulkUpdateRequestDto.getId();
+                items.add(new BulkItemResponseDto(i, id, HttpStatus.BAD_REQUEST.value(), error));
+                continue;
+            }
+
+            Long id = bookBulkUpdateRequestDto.getId();
+            Book book = books.get(id);
+
+            if (book == null) {
+                items.add(new BulkItemResponseDto(i, id, HttpStatus.NOT_FOUND.value(),
+                        String.format(BOOK_NOT_FOUND, id)));
+                continue;
+            }
+
+            book.setTitle(bookBulkUpdateRequestDto.getTitle());
+            book.setAuthor(bookBulkUpdateRequestDto.getAuthor());
+            updatedBooks.add(book);
+
+            items.add(new BulkItemResponseDto(i, id, HttpStatus.NO_CONTENT.value(), null));
+        }
+
+        bookRepository.saveAllAndFlush(books.values());
+        bookEventService.record(updatedBooks.stream().map(BookEvent::updated).toList());
+        bookSearchService.index(updatedBooks);
+        updatedBooks.forEach(book -> putInCache(bookMapper.toResponseDto(book)));
+        return toBulkResponse(items);
+    }
+
+    /**
+     * Moves each book with its own conditional UPDATE from the status it was read with, so a book that a concurrent
+     * request changes meanwhile fails alone with 409 instead of failing the whole request.
+     */
+    @Override
+    @Transactional
+    public BulkResponseDto updateAllBookStatus(BookBulkStatusRequestDto bookBulkStatusRequestDto)
+            throws BadRequestException {
+        List<Long> ids = bookBulkStatusRequestDto.getIds();
+        BookStatusEnum status = bookBulkStatusRequestDto.getStatus();
+        checkBulkSize(ids.size());
+
+        bookStatusWriteBehindService.flush(ids);
+        Map<Long, BookStatusEnum> statuses = bookRepository.findResponseDtosByIdIn(ids).stream()
+                .collect(Collectors.toMap(BookResponseDto::getId, BookResponseDto::getStatus));
+        List<BulkItemResponseDto> items = new ArrayList<>(ids.size());
+        List<Long> changed = new ArrayList<>(ids.size());
+
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            BookStatusEnum current = statuses.get(id);
+
+            if (current == null) {
+                items.add(new BulkItemResponseDto(i, id, HttpStatus.NOT_FOUND.value(),
+                        String.format(BOOK_NOT_FOUND, id)));
+                continue;
+            }
+
+            if (current != status) {
+                if (bookRepository.updateStatusByIdAndStatus(id, current, status) == 0) {
+                    items.add(bookRepository.existsById(id)
+                            ? new BulkItemResponseDto(i, id, HttpStatus.CONFLICT.value(),
+                                    String.format(BOOK_STATUS_CHANGED, id))
+                            : new BulkItemResponseDto(i, id, HttpStatus.NOT_FOUND.value(),
+                                    String.format(BOOK_NOT_FOUND, id)));
+                    continue;
+                }
+                bookStatisticsService.move(current, status, 1);
+                statuses.put(id, status);
+                changed.add(id);
+            }
+
+            items.add(new BulkItemResponseDto(i, id, HttpStatus.NO_CONTENT.value(), null));
+        }
+
+        if (!changed.isEmpty()) {
+            List<BookResponseDto> books = bookRepository.findResponseDtosByIdIn(changed);
+            bookEventService.record(books.stream()
+                    .map(book -> BookEvent.statusChanged(book.getId(), book.getVersion(), book.getStatus())).toList());
+            books.forEach(this::putInCache);
+        }
+        return toBulkResponse(items);
+    }
+
+    @Override
+    @Transactional
+    public void updateBookStatus(Long id, BookStatusRequestDto bookStatusRequestDto)
+            throws NotFoundException, IOException {
+        BookStatusEnum status = bookStatusRequestDto.getStatus();
+
+        if (bookStatusWriteBehindService.isEnabled()) {
+            if (bookStatusWriteBehindService.pendingStatus(id).isEmpty() && !bookRepository.existsById(id)) {
+                throw expectedExceptionFactory.notFound(String.format(BOOK_NOT_FOUND, id));
+            }
+            bookStatusWriteBehindService.append(id, status);
+            evictFromCache(id);
+            return;
+        }
+
+        // Tries each other status as the expected one, so the counters learn which status the row came from
+        for (BookStatusEnum expected : BookStatusEnum.values()) {
+            if (expected != status && bookRepository.updateStatusByIdAndStatus(id, expected, status) == 1) {
+                bookStatisticsService.move(expected, status, 1);
+                changedStatus(id, status);
+                return;
+            }
+        }
+
+        if (!bookRepository.existsById(id)) {
+            throw expectedExceptionFactory.notFound(String.format(BOOK_NOT_FOUND, id));
+        }
+    }
+
+    @Override
+    @Transactional
+    public void borrow(Long id) throws NotFoundException, ConflictException {
+        transitionStatus(id, BookStatusEnum.AVAILABLE, BookStatusEnum.BORROWED, BOOK_ALREADY_BORROWED);
+    }
+
+    @Override
+    @Transactional
+    public void giveBack(Long id) throws NotFoundException, ConflictException {
+        transitionStatus(id, BookStatusEnum.BORROWED, BookStatusEnum.AVAILABLE, BOOK_NOT_BORROWED);
     }
 
     @Override
@@ -63,23 +390,139 @@ public class BookServiceImpl implements BookService {
         book.setTitle(bookRequestDto.getTitle());
         book.setAuthor(bookRequestDto.getAuthor());
 
-        bookRepository.save(book);
+        bookRepository.saveAndFlush(book);
+        bookEventService.record(List.of(BookEvent.updated(book)));
+        bookSearchService.index(List.of(book));
+        putInCache(bookMapper.toResponseDto(book));
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.BOOKS, key = "#id")
     public void delete(Long id) throws NotFoundException, BadRequestException {
-        Book book = findById(id);
+        bookStatusWriteBehindService.flush(List.of(id));
 
-        if (book.getStatus() == BookStatusEnum.BORROWED) {
-            throw new BadRequestException(CANNOT_DELETE_BOOK_WITH_BORROWED_STATUS);
+        // The status check is part of the DELETE statement, so a concurrent borrow cannot slip in between
+        if (bookRepository.deleteByIdAndStatusNot(id, BookStatusEnum.BORROWED) == 0) {
+            if (bookRepository.existsById(id)) {
+                throw expectedExceptionFactory.badRequest(CANNOT_DELETE_BOOK_WITH_BORROWED_STATUS);
+            }
+            throw expectedExceptionFactory.notFound(String.format(BOOK_NOT_FOUND, id));
         }
 
-        bookRepository.delete(book);
+        bookEventService.record(List.of(BookEvent.deleted(id)));
+        bookSearchService.remove(List.of(id));
+        // Only a book that is not borrowed can be deleted, which leaves AVAILABLE
+        bookStatisticsService.add(BookStatusEnum.AVAILABLE, -1);
+    }
+
+    /**
+     * Moves the book from {@code expected} to {@code status} with a single conditional UPDATE. The database
+     * serializes concurrent transitions on the row, so exactly one of them matches and no lock is held
+     * across the request. When nothing matched, the row is re-read only to tell a conflict from a missing book.
+     */
+    private void transitionStatus(Long id, BookStatusEnum expected, BookStatusEnum status, String conflictMessage)
+            throws NotFoundException, ConflictException {
+        bookStatusWriteBehindService.flush(List.of(id));
+
+        if (bookRepository.updateStatusByIdAndStatus(id, expected, status) == 0) {
+            if (bookRepository.existsById(id)) {
+                throw expectedExceptionFactory.conflict(String.format(conflictMessage, id));
+            }
+            throw expectedExceptionFactory.notFound(String.format(BOOK_NOT_FOUND, id));
+        }
+
+        bookStatisticsService.move(expected, status, 1);
+        changedStatus(id, status);
+    }
+
+    /**
+     * Records the status change the conditional UPDATE just made, and caches the row it left.
+     */
+    private void changedStatus(Long id, BookStatusEnum status) {
+        BookResponseDto book = bookRepository.findResponseDtoById(id).orElseThrow();
+        bookEventService.record(List.of(BookEvent.statusChanged(id, book.getVersion(), status)));
+        putInCache(book);
     }
 
     private Book findById(Long id) throws NotFoundException {
         return bookRepository.findById(id)
-                .orElseThrow(() -> new NotFoundException(String.format(BOOK_NOT_FOUND, id)));
+                .orElseThrow(() -> expectedExceptionFactory.notFound(String.format(BOOK_NOT_FOUND, id)));
+    }
+
+    private Map<Long, Book> findAllById(List<Long> ids) {
+        return bookRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+    }
+
+    /**
+     * An acknowledged status not written yet wins; the version it will get is unknown until then. {@code pending}
+     * is the status read before {@code book}: a flush committing in between removes it from the pending set, yet
+     * the row may have been read before the flush wrote it.
+     */
+    private BookResponseDto withPendingStatus(BookResponseDto book, Optional<BookStatusEnum> pending) {
+        return bookStatusWriteBehindService.pendingStatus(book.getId()).or(() -> pending)
+                .map(status -> new BookResponseDto(book.getId(), book.getTitle(), book.getAuthor(), status, null,
+                        null))
+                .orElse(book);
+    }
+
+    // Applied after commit, like the evictions
+    private void putInCache(BookResponseDto book) {
+        Cache cache = cacheManager.getCache(CacheConfig.BOOKS);
+        if (cache != null) {
+            cache.put(book.getId(), book);
+        }
+    }
+
+    private void evictFromCache(Long id) {
+        Cache cache = cacheManager.getCache(CacheConfig.BOOKS);
+        if (cache != null) {
+            cache.evict(id);
+        }
+    }
+
+    private String validate(Object item) {
+        if (item == null) {
+            return ITEM_MUST_NOT_BE_NULL;
+        }
+
+        Set<ConstraintViolation<Object>> violations = validator.validate(item);
+        if (violations.isEmpty()) {
+            return null;
+        }
+
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private void checkBulkSize(int size) throws BadRequestException {
+        if (size < 1 || size > MAX_BULK_SIZE) {
+            throw expectedExceptionFactory.badRequest(String.format(INVALID_BULK_SIZE, MAX_BULK_SIZE));
+        }
+    }
+
+    private static BulkResponseDto toBulkResponse(List<BulkItemResponseDto> items) {
+        int failed = (int) items.stream().filter(item -> item.getError() != null).count();
+        return new BulkResponseDto(items.size() - failed, failed, items);
+    }
+
+    private static String encodeCursor(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(id.toString().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private Long decodeCursor(String cursor) throws BadRequestException {
+        if (cursor == null || cursor.isBlank()) {
+            return Long.MIN_VALUE;
+        }
+
+        try {
+            return Long.valueOf(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII));
+        } catch (IllegalArgumentException e) {
+            throw expectedExceptionFactory.badRequest(INVALID_CURSOR);
+        }
     }
 }
@@ -0,0 +1,101 @@
+package com.github.silviacristinaa.library.services.impl;
+
+import com.github.silviacristinaa.library.dtos.responses.BookStatisticsResponseDto;
+import com.github.silviacristinaa.library.enums.BookStatusEnum;
+import com.github.silviacristinaa.library.repositories.BookRepository;
+import com.github.silviacristinaa.library.services.BookStatisticsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Per-status book counts kept in striped {@link LongAdder}s, so reads cost the same whatever the catalogue size.
+ * Writers report deltas, which are applied once their transaction commits. Writes that bypass
+ * {@link com.github.silviacristinaa.library.services.BookService} drift the counters until the next scheduled
+ * reconciliation against a grouped count.
+ * <p>
+ * A writer holds the read side of {@code reconcileLock} from just before its commit until its deltas are applied,
+ * and reconciliation counts under the write side. Every commit is therefore either in both the count and the
+ * counters or in neither, and the counters can be set to the count; commits wait for the count meanwhile.
+ */
+@Slf4j
+@Service
+public class BookStatisticsServiceImpl implements BookStatisticsService {
+
+    private final BookRepository bookRepository;
+    private final Map<BookStatusEnum, LongAdder> counters = new EnumMap<>(BookStatusEnum.class);
+
+    private final ReadWriteLock reconcileLock = new ReentrantReadWriteLock();
+
+    private volatile Instant reconciledAt;
+
+    public BookStatisticsServiceImpl(BookRepository bookRepository) {
+        this.bookRepository = bookRepository;
+        for (BookStatusEnum status : BookStatusEnum.values()) {
+            counters.put(status, new LongAdder());
+        }
+    }
+
+    @Override
+    public BookStatisticsResponseDto getStatistics() {
+        Map<BookStatusEnum, Long> byStatus = new EnumMap<>(BookStatusEnum.class);
+        long total = 0;
+
+        for (Map.Entry<BookStatusEnum, LongAdder> counter : counters.entrySet()) {
+            long count = counter.getValue().sum();
+            byStatus.put(counter.getKey(), count);
+            total += count;
+        }
+
+        return new BookStatisticsResponseDto(total, byStatus, reconciledAt);
+    }
+
+    @Override
+    public void add(BookStatusEnum status, long delta) {
+        TransactionCallbacks.afterCommit(() -> counters.get(status).add(delta), reconcileLock.readLock());
+    }
+
+    @Override
+    public void move(BookStatusEnum from, BookStatusEnum to, long count) {
+        TransactionCallbacks.afterCommit(() -> {
+            counters.get(from).add(-count);
+            counters.get(to).add(count);
+        }, reconcileLock.readLock());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Scheduled(fixedDelayString = "${library.statistics.reconcile-interval:5m}")
+    public BookStatisticsResponseDto reconcile() {
+        // The read-only transaction already holds its connection, so waiting writers cannot starve the count of one
+        reconcileLock.writeLock().lock();
+        try {
+            Map<BookStatusEnum, Long> counts = new EnumMap<>(BookStatusEnum.class);
+            for (Object[] row : bookRepository.countByStatus()) {
+                counts.put((BookStatusEnum) row[0], (Long) row[1]);
+            }
+
+            // Added as a correction so readers never see a counter pass through zero
+            for (Map.Entry<BookStatusEnum, LongAdder> counter : counters.entrySet()) {
+                long drift = counts.getOrDefault(counter.getKey(), 0L) - counter.getValue().sum();
+                if (drift != 0) {
+                    log.debug("Correcting {} counter by {}", counter.getKey(), drift);
+                    counter.getValue().add(drift);
+                }
+            }
+
+            reconciledAt = Instant.now();
+        } finally {
+            reconcileLock.writeLock().unlock();
+        }
+        return getStatistics();
+    }
+}
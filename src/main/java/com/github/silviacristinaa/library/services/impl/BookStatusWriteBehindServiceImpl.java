@@ -0,0 +1,389 @@
+package com.github.silviacristinaa.library.services.impl;
+
+import com.github.silviacristinaa.library.configs.CacheConfig;
+import com.github.silviacristinaa.library.entities.Book;
+import com.github.silviacristinaa.library.entities.BookEvent;
+import com.github.silviacristinaa.library.enums.BookStatusEnum;
+import com.github.silviacristinaa.library.repositories.BookRepository;
+import com.github.silviacristinaa.library.services.BookEventService;
+import com.github.silviacristinaa.library.services.BookStatisticsService;
+import com.github.silviacristinaa.library.services.BookStatusWriteBehindService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Opt-in write-behind for single-book status changes. A change is acknowledged once its {@code id,STATUS} line is
+ * forced to a local append-only log; it then waits in memory, where later changes to the same book replace it, until
+ * the flusher writes the latest status of every pending book in batched transactions and compacts the log. The log
+ * is replayed into memory when the service is created, before it accepts any append, so a flush can never compact
+ * away changes acknowledged before a crash; they are written to the database once the application is ready.
+ * <p>
+ * Every flush also logs an {@code id,STATUS,version} line with the version it wrote before its transaction commits.
+ * A change whose flush committed but was not compacted away yet is dropped on replay when the row has reached that
+ * version, so a restart never writes it over what later writes committed.
+ * <p>
+ * Other writes that depend on the stored status first flush the books they touch inside their own transaction.
+ * Statistics follow the database, so they trail acknowledged changes by up to one flush interval.
+ */
+@Slf4j
+@Service
+public class BookStatusWriteBehindServiceImpl implements BookStatusWriteBehindService {
+
+    private static final String SEPARATOR = ",";
+    private static final String COMPACT_SUFFIX = ".compact";
+
+    private final BookRepository bookRepository;
+    private final BookStatisticsService bookStatisticsService;
+    private final BookEventService bookEventService;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Path logPath;
+    private final int batchSize;
+
+    private final Map<Long, BookStatusEnum> pending = new ConcurrentHashMap<>();
+    // Flushes not committed yet, logged again on compaction
+    private final Map<Long, Flushed> inFlight = new ConcurrentHashMap<>();
+    // Not synchronized: a virtual thread blocked in force() would pin its carrier
+    private final ReentrantLock logLock = new ReentrantLock();
+    private FileChannel logChannel;
+    private volatile boolean logStale;
+    private int replayed;
+
+    public BookStatusWriteBehindServiceImpl(BookRepository bookRepository,
+                                            BookStatisticsService bookStatisticsService,
+                                            BookEventService bookEventService,
+                                            CacheManager cacheManager,
+                                            PlatformTransactionManager transactionManager,
+                                            @Value("${library.write-behind.enabled:false}") boolean enabled,
+                                            @Value("${library.write-behind.log-path:data/book-status.log}")
+                                            String logPath,
+                                            @Value("${library.write-behind.batch-size:500}") int batchSize)
+            throws IOException {
+        this.bookRepository = bookRepository;
+        this.bookStatisticsService = bookStatisticsService;
+        this.bookEventService = bookEventService;
+        this.cacheManager = cacheManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.logPath = Path.of(logPath);
+        this.batchSize = batchSize;
+
+        if (enabled) {
+            if (this.logPath.getParent() != null) {
+                Files.createDirectories(this.logPath.getParent());
+            }
+            if (Files.exists(this.logPath)) {
+                Map<Long, Flushed> flushed = new HashMap<>();
+                replayed = replay(flushed);
+                dropCommitted(flushed);
+                // Drops a torn last line, which the next append would otherwise run into
+                rewriteLog();
+            }
+            logChannel = openLog();
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void append(Long id, BookStatusEnum status) throws IOException {
+        ByteBuffer line = ByteBuffer.wrap((id + SEPARATOR + status.name() + "\n").getBytes(StandardCharsets.UTF_8));
+
+        logLock.lock();
+        try {
+            while (line.hasRemaining()) {
+                logChannel.write(line);
+            }
+            logChannel.force(false);
+            pending.put(id, status);
+        } finally {
+            logLock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<BookStatusEnum> pendingStatus(Long id) {
+        return enabled ? Optional.ofNullable(pending.get(id)) : Optional.empty();
+    }
+
+    /**
+     * Writes the pending statuses of {@code ids} in the caller's transaction, so a conditional update that follows
+     * sees them. They leave the pending set, and the log, only once that transaction commits.
+     */
+    @Override
+    public void flush(Collection<Long> ids) {
+        if (!enabled || pending.isEmpty()) {
+            return;
+        }
+
+        Map<Long, BookStatusEnum> batch = new HashMap<>();
+        for (Long id : ids) {
+            BookStatusEnum status = pending.get(id);
+            if (status != null) {
+                batch.put(id, status);
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            write(batch);
+            TransactionCallbacks.afterCommit(this::compactAfterCommit);
+        }
+    }
+
+    // Not run on startup, recoverOnStartup flushes what was replayed before traffic arrives
+    @Override
+    @Scheduled(initialDelayString = "${library.write-behind.flush-interval:200ms}",
+            fixedDelayString = "${library.write-behind.flush-interval:200ms}")
+    public int flush() throws IOException {
+        if (!enabled || (pending.isEmpty() && !logStale)) {
+            return 0;
+        }
+
+        List<Map.Entry<Long, BookStatusEnum>> entries = new ArrayList<>(pending.entrySet());
+        int flushed = 0;
+
+        for (int from = 0; from < entries.size(); from += batchSize) {
+            Map<Long, BookStatusEnum> batch = new HashMap<>();
+            for (Map.Entry<Long, BookStatusEnum> entry : entries.subList(from,
+                    Math.min(entries.size(), from + batchSize))) {
+                batch.put(entry.getKey(), entry.getValue());
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(transactionStatus -> write(batch));
+                flushed += batch.size();
+            } catch (DataAccessException e) {
+                // Left pending and retried on the next run
+                log.warn("Status flush of {} books failed: {}", batch.size(), e.getMessage());
+            }
+        }
+
+        compact();
+        return flushed;
+    }
+
+    /**
+     * Writes the changes replayed from the log to the database. The flusher would pick them up as well, this only
+     * gets them there before the application starts taking traffic.
+     */
+    @Override
+    public int recover() throws IOException {
+        if (!enabled || replayed == 0) {
+            return 0;
+        }
+
+        log.info("Replayed {} status changes for {} books", replayed, pending.size());
+        flush();
+        return replayed;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverOnStartup() throws IOException {
+        recover();
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (logChannel == null) {
+            return;
+        }
+
+        logLock.lock();
+        try {
+            logChannel.close();
+            rewriteLog();
+        } finally {
+            logLock.unlock();
+        }
+    }
+
+    private void write(Map<Long, BookStatusEnum> batch) {
+        List<Book> books = bookRepository.findAllById(batch.keySet());
+        List<Book> changed = new ArrayList<>(books.size());
+
+        for (Book book : books) {
+            BookStatusEnum status = batch.get(book.getId());
+            if (book.getStatus() != status) {
+                bookStatisticsService.move(book.getStatus(), status, 1);
+                book.setStatus(status);
+                changed.add(book);
+            }
+        }
+        bookRepository.saveAllAndFlush(books);
+        bookEventService.record(changed.stream()
+                .map(book -> BookEvent.statusChanged(book.getId(), book.getVersion(), book.getStatus())).toList());
+
+        Map<Long, Flushed> flushed = new HashMap<>();
+        books.forEach(book -> flushed.put(book.getId(), new Flushed(batch.get(book.getId()), book.getVersion())));
+        logFlushed(flushed);
+
+        // Books deleted meanwhile are dropped along with the rest; a newer status for the same book stays pending
+        TransactionCallbacks.afterCommit(() -> {
+            batch.forEach(pending::remove);
+            logStale = true;
+        });
+        TransactionCallbacks.afterCompletion(() -> flushed.forEach(inFlight::remove));
+        Cache cache = cacheManager.getCache(CacheConfig.BOOKS);
+        if (cache != null) {
+            batch.keySet().forEach(cache::evict);
+        }
+    }
+
+    /**
+     * Reads the log into the pending set, and into {@code flushed} the flushes logged after the latest change of
+     * each book.
+     */
+    private int replay(Map<Long, Flushed> flushed) throws IOException {
+        int lines = 0;
+        for (String line : Files.readAllLines(logPath, StandardCharsets.UTF_8)) {
+            String[] fields = line.split(SEPARATOR);
+            try {
+                Long id = Long.valueOf(fields[0]);
+                BookStatusEnum status = BookStatusEnum.valueOf(fields[1]);
+                if (fields.length > 2) {
+                    flushed.put(id, new Flushed(status, Long.parseLong(fields[2])));
+                } else {
+                    pending.put(id, status);
+                    flushed.remove(id);
+                }
+                lines++;
+            } catch (RuntimeException e) {
+                // A torn last line from a crash mid-append was never acknowledged
+                log.warn("Skipping unreadable status log line: {}", line);
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Drops the replayed changes whose flush committed: their row has reached the version the flush wrote, or is
+     * gone. A flush that rolled back left the row below it, so its change is written again.
+     */
+    private void dropCommitted(Map<Long, Flushed> flushed) {
+        flushed.entrySet().removeIf(entry -> pending.get(entry.getKey()) != entry.getValue().status());
+        if (flushed.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> versions = new HashMap<>();
+        bookRepository.findAllById(flushed.keySet()).forEach(book -> versions.put(book.getId(), book.getVersion()));
+        flushed.forEach((id, flush) -> {
+            Long version = versions.get(id);
+            if (version == null || version >= flush.version()) {
+                pending.remove(id);
+            }
+        });
+    }
+
+    /**
+     * Logs the versions a flush is about to commit, forced before the commit so replay can tell it happened.
+     */
+    private void logFlushed(Map<Long, Flushed> flushed) {
+        StringBuilder lines = new StringBuilder();
+        flushed.forEach((id, flush) -> appendLine(lines, id, flush));
+
+        logLock.lock();
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                logChannel.write(buffer);
+            }
+            logChannel.force(false);
+            inFlight.putAll(flushed);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            logLock.unlock();
+        }
+    }
+
+    private void compactAfterCommit() {
+        try {
+            compact();
+        } catch (IOException e) {
+            // The log stays stale until the next scheduled run compacts it
+            log.warn("Status log compaction failed: {}", e.getMessage());
+        }
+    }
+
+    private void compact() throws IOException {
+        logLock.lock();
+        try {
+            logChannel.close();
+            rewriteLog();
+        } finally {
+            logChannel = openLog();
+            logLock.unlock();
+        }
+    }
+
+    /**
+     * Rewrites the log with only what is still pending. The new log is moved over the old one, so a crash leaves
+     * either of them whole.
+     */
+    private void rewriteLog() throws IOException {
+        logStale = false;
+        Path compacted = logPath.resolveSibling(logPath.getFileName() + COMPACT_SUFFIX);
+        StringBuilder lines = new StringBuilder();
+        pending.forEach((id, status) -> lines.append(id).append(SEPARATOR).append(status.name()).append('\n'));
+        inFlight.forEach((id, flush) -> {
+            if (pending.get(id) == flush.status()) {
+                appendLine(lines, id, flush);
+            }
+        });
+        try (FileChannel channel = FileChannel.open(compacted, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        Files.move(compacted, logPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void appendLine(StringBuilder lines, Long id, Flushed flush) {
+        lines.append(id).append(SEPARATOR).append(flush.status().name()).append(SEPARATOR).append(flush.version())
+                .append('\n');
+    }
+
+    private FileChannel openLog() throws IOException {
+        return FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    private record Flushed(BookStatusEnum status, long version) {
+    }
+}
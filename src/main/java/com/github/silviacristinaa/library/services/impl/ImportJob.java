@@ -0,0 +1,98 @@
+package com.github.silviacristinaa.library.services.impl;
+
+import com.github.silviacristinaa.library.dtos.responses.ImportJobResponseDto;
+import com.github.silviacristinaa.library.dtos.responses.ImportLineErrorResponseDto;
+import com.github.silviacristinaa.library.enums.FileFormatEnum;
+import com.github.silviacristinaa.library.enums.ImportJobStatusEnum;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one running import. Written by the importing thread and read concurrently by status requests.
+ * Only the first {@value #MAX_ERRORS} line errors are kept so a bad feed cannot grow the heap.
+ */
+class ImportJob {
+
+    static final int MAX_ERRORS = 100;
+
+    private final String id;
+    private final FileFormatEnum format;
+    private final int batchSize;
+    private final Instant startedAt = Instant.now();
+    private final AtomicLong linesRead = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final List<ImportLineErrorResponseDto> errors = new ArrayList<>();
+
+    private volatile ImportJobStatusEnum status = ImportJobStatusEnum.RUNNING;
+    private volatile Instant finishedAt;
+    private volatile String message;
+
+    ImportJob(String id, FileFormatEnum format, int batchSize) {
+        this.id = id;
+        this.format = format;
+        this.batchSize = batchSize;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    FileFormatEnum getFormat() {
+        return format;
+    }
+
+    int getBatchSize() {
+        return batchSize;
+    }
+
+    void linesRead(long count) {
+        linesRead.addAndGet(count);
+    }
+
+    void imported(long count) {
+        imported.addAndGet(count);
+    }
+
+    void failed(long line, String error) {
+        failed.incrementAndGet();
+
+        synchronized (errors) {
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(new ImportLineErrorResponseDto(line, error));
+            }
+        }
+    }
+
+    void complete() {
+        finish(ImportJobStatusEnum.COMPLETED, null);
+    }
+
+    void abort(String message) {
+        finish(ImportJobStatusEnum.FAILED, message);
+    }
+
+    ImportJobResponseDto toResponseDto() {
+        Instant end = finishedAt == null ? Instant.now() : finishedAt;
+        long elapsedMillis = Math.max(1, Duration.between(startedAt, end).toMillis());
+        long lines = linesRead.get();
+
+        List<ImportLineErrorResponseDto> errorsSnapshot;
+        synchronized (errors) {
+            errorsSnapshot = List.copyOf(errors);
+        }
+
+        return new ImportJobResponseDto(id, status, lines, imported.get(), failed.get(),
+                lines * 1000.0 / elapsedMillis, startedAt, finishedAt, message, errorsSnapshot);
+    }
+
+    private void finish(ImportJobStatusEnum status, String message) {
+        this.message = message;
+        this.finishedAt = Instant.now();
+        this.status = status;
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.silviacristinaa.library.services.impl;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Collapses concurrent loads of the same key into one. The first caller runs the loader and the others wait for
+ * its result or exception, at most {@code timeout}; a caller that gives up loads on its own instead. Nothing is
+ * kept once the load completes, so callers arriving afterwards start a new one.
+ */
+public class SingleFlight<K, V> {
+
+    @FunctionalInterface
+    public interface Loader<V, E extends Exception> {
+        V load() throws E;
+    }
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final long timeoutNanos;
+
+    public SingleFlight(final Duration timeout) {
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    public <E extends Exception> V execute(K key, Loader<V, E> loader) throws E {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> leader = inFlight.putIfAbsent(key, flight);
+
+        if (leader == null) {
+            try {
+                V value = loader.load();
+                flight.complete(value);
+                return value;
+            } catch (Throwable e) {
+                flight.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(key, flight);
+            }
+        }
+
+        try {
+            return leader.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw SingleFlight.<E>rethrow(e.getCause());
+        } catch (TimeoutException e) {
+            return loader.load();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return loader.load();
+        }
+    }
+
+    int inFlight() {
+        return inFlight.size();
+    }
+
+    /**
+     * The leader's failure came from the same loader type, so it is either unchecked or an {@code E}.
+     */
+    @SuppressWarnings("unchecked")
+    private static <E extends Exception> E rethrow(Throwable cause) throws E {
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        throw (E) cause;
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.silviacristinaa.library.services.impl;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Defers work on in-memory state until the caller's transaction has settled, so that state never gets ahead of
+ * the database. Outside a transaction there is nothing to wait for and the work runs right away.
+ */
+final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Like {@link #afterCommit(Runnable)}, holding {@code lock} from just before the commit until the action ran,
+     * so whoever takes the other side of it sees the commit and the action together or neither.
+     */
+    static void afterCommit(Runnable action, Lock lock) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                private boolean locked;
+
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    lock.lock();
+                    locked = true;
+                }
+
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (locked) {
+                        locked = false;
+                        lock.unlock();
+                    }
+                }
+            });
+        } else {
+            lock.lock();
+            try {
+                action.run();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Runs {@code action} once the transaction has committed or rolled back.
+     */
+    static void afterCompletion(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
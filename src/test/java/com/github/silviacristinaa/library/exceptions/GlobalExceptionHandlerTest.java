@@ -0,0 +1,62 @@
+package com.github.silviacristinaa.library.exceptions;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(SpringExtension.class)
+public class GlobalExceptionHandlerTest {
+
+    private static final String BOOK_NOT_FOUND = "Book 1 not found";
+
+    private SimpleMeterRegistry meterRegistry;
+    private GlobalExceptionHandler globalExceptionHandler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        globalExceptionHandler = new GlobalExceptionHandler(meterRegistry, 10);
+    }
+
+    @Test
+    void whenHandleNotFoundReturnBodyAndCountIt() {
+        ResponseEntity<ErrorMessage> response =
+                globalExceptionHandler.handleNotFoundException(new NotFoundException(BOOK_NOT_FOUND));
+
+        assertEquals(404, response.getStatusCode().value());
+        assertEquals("Not found", response.getBody().getMessage());
+        assertEquals(List.of(BOOK_NOT_FOUND), response.getBody().getErrors());
+        assertEquals(1, meterRegistry.get("library.errors")
+                .tags("exception", "NotFoundException", "status", "404").counter().count());
+    }
+
+    @Test
+    void whenStackTracesDisabledCaptureNone() {
+        assertEquals(0, new ExpectedExceptionFactory(false).notFound(BOOK_NOT_FOUND).getStackTrace().length);
+        assertEquals(0, new NotFoundException(BOOK_NOT_FOUND).getStackTrace().length);
+    }
+
+    @Test
+    void whenStackTracesEnabledCaptureThem() {
+        assertTrue(new ExpectedExceptionFactory(true).badRequest(BOOK_NOT_FOUND).getStackTrace().length > 0);
+        assertEquals(0, new BadRequestException(BOOK_NOT_FOUND).getStackTrace().length);
+    }
+
+    @Test
+    void whenOverRateDropAndCountSuppressed() {
+        LogRateLimiter logRateLimiter = new LogRateLimiter(2);
+
+        assertEquals(0, logRateLimiter.tryAcquire());
+        assertEquals(0, logRateLimiter.tryAcquire());
+        assertEquals(-1, logRateLimiter.tryAcquire());
+        assertEquals(-1, logRateLimiter.tryAcquire());
+    }
+}
@@ -0,0 +1,108 @@
+package com.github.silviacristinaa.library.filters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(SpringExtension.class)
+public class ConnectionBulkheadFilterTest {
+
+    private static final Duration ACQUIRE_TIMEOUT = Duration.ofMillis(10);
+
+    private ConnectionBulkheadFilter connectionBulkheadFilter;
+
+    @BeforeEach
+    void setUp() {
+        connectionBulkheadFilter = new ConnectionBulkheadFilter(1, ACQUIRE_TIMEOUT, new ObjectMapper());
+    }
+
+    @Test
+    void whenPermitAvailableContinueChainAndReleaseIt() throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        connectionBulkheadFilter.doFilter(new MockHttpServletRequest(), response,
+                (req, res) -> assertEquals(0, connectionBulkheadFilter.availablePermits()));
+
+        assertEquals(200, response.getStatus());
+        assertEquals(1, connectionBulkheadFilter.availablePermits());
+    }
+
+    @Test
+    void whenNoPermitAvailableReturnServiceUnavailable() throws ServletException, IOException {
+        MockHttpServletResponse rejectedResponse = new MockHttpServletResponse();
+        FilterChain nestedRequest = (req, res) -> connectionBulkheadFilter.doFilter(
+                new MockHttpServletRequest(), rejectedResponse, (nestedReq, nestedRes) -> { });
+
+        connectionBulkheadFilter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), nestedRequest);
+
+        assertEquals(503, rejectedResponse.getStatus());
+        assertEquals("1", rejectedResponse.getHeader("Retry-After"));
+        assertEquals("{\"message\":\"Service unavailable\",\"errors\":[\"Too many concurrent requests\"]}",
+                rejectedResponse.getContentAsString());
+        assertEquals(1, connectionBulkheadFilter.availablePermits());
+    }
+
+    @Test
+    void whenRequestGoesAsyncHoldPermitUntilComplete() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+
+        connectionBulkheadFilter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+        assertEquals(0, connectionBulkheadFilter.availablePermits());
+
+        MockHttpServletResponse dispatchResponse = new MockHttpServletResponse();
+        request.setDispatcherType(DispatcherType.ASYNC);
+        connectionBulkheadFilter.doFilter(request, dispatchResponse, (req, res) -> { });
+        assertEquals(200, dispatchResponse.getStatus());
+        assertEquals(0, connectionBulkheadFilter.availablePermits());
+
+        request.getAsyncContext().complete();
+        assertEquals(1, connectionBulkheadFilter.availablePermits());
+    }
+
+    @Test
+    void whenRequestOpensEventStreamReleasePermitOnReturn() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+
+        connectionBulkheadFilter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE, Set.of(MediaType.TEXT_EVENT_STREAM));
+            req.startAsync();
+        });
+
+        assertTrue(request.isAsyncStarted());
+        assertEquals(1, connectionBulkheadFilter.availablePermits());
+
+        request.getAsyncContext().complete();
+        assertEquals(1, connectionBulkheadFilter.availablePermits());
+    }
+
+    @Test
+    void whenChainFailsReleasePermit() {
+        FilterChain failingChain = (req, res) -> {
+            throw new ServletException("failure");
+        };
+
+        assertThrows(ServletException.class, () -> connectionBulkheadFilter.doFilter(
+                new MockHttpServletRequest(), new MockHttpServletResponse(), failingChain));
+
+        assertEquals(1, connectionBulkheadFilter.availablePermits());
+    }
+}
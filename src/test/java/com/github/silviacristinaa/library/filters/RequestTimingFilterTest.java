@@ -0,0 +1,67 @@
+package com.github.silviacristinaa.library.filters;
+
+import com.github.silviacristinaa.library.enums.RequestPhaseEnum;
+import com.github.silviacristinaa.library.metrics.RequestTimings;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SpringExtension.class)
+public class RequestTimingFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestTimingFilter requestTimingFilter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        requestTimingFilter = new RequestTimingFilter(meterRegistry);
+    }
+
+    @Test
+    void whenRequestCompletesRecordEachPhase() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/books/1");
+
+        requestTimingFilter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            RequestTimings timings = RequestTimings.current();
+            assertTrue(timings.enter(RequestPhaseEnum.DB));
+            assertFalse(timings.enter(RequestPhaseEnum.DB));
+            timings.exit(RequestPhaseEnum.DB, TimeUnit.MILLISECONDS.toNanos(5));
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/books/{id}");
+        });
+
+        Timer db = meterRegistry.get(RequestTimingFilter.REQUEST_PHASE_METRIC)
+                .tags("method", "GET", "uri", "/books/{id}", "phase", "db").timer();
+        Timer serialization = meterRegistry.get(RequestTimingFilter.REQUEST_PHASE_METRIC)
+                .tags("phase", "serialization").timer();
+
+        assertEquals(1, db.count());
+        assertEquals(5, db.totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(1, serialization.count());
+        assertEquals(0, serialization.totalTime(TimeUnit.MILLISECONDS));
+        assertNull(RequestTimings.current());
+    }
+
+    @Test
+    void whenRequestGoesAsyncSkipRecording() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/books/export");
+        request.setAsyncSupported(true);
+
+        requestTimingFilter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+
+        assertNull(meterRegistry.find(RequestTimingFilter.REQUEST_PHASE_METRIC).timer());
+        assertNull(RequestTimings.current());
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.silviacristinaa.library.mappers;
+
+import com.github.silviacristinaa.library.dtos.requests.BookRequestDto;
+import com.github.silviacristinaa.library.dtos.responses.BookResponseDto;
+import com.github.silviacristinaa.library.entities.Book;
+import com.github.silviacristinaa.library.enums.BookStatusEnum;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BookMapperTest {
+
+    private static final long ID = 1L;
+    private static final String TITLE = "Test";
+    private static final String AUTHOR = "test";
+    private static final long VERSION = 3L;
+    private static final Instant UPDATED_AT = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final BookMapper bookMapper = new BookMapperImpl();
+
+    @Test
+    void whenToResponseDtoReturnAllFields() {
+        Book book = new Book(ID, TITLE, AUTHOR, BookStatusEnum.BORROWED);
+        book.setVersion(VERSION);
+        book.setUpdatedAt(UPDATED_AT);
+
+        BookResponseDto response = bookMapper.toResponseDto(book);
+
+        assertEquals(ID, response.getId());
+        assertEquals(TITLE, response.getTitle());
+        assertEquals(AUTHOR, response.getAuthor());
+        assertEquals(BookStatusEnum.BORROWED, response.getStatus());
+        assertEquals(VERSION, response.getVersion());
+        assertEquals(UPDATED_AT, response.getUpdatedAt());
+    }
+
+    @Test
+    void whenToEntityReturnBookWithoutIdAndStatus() {
+        Book response = bookMapper.toEntity(new BookRequestDto(TITLE, AUTHOR));
+
+        assertNull(response.getId());
+        assertEquals(TITLE, response.getTitle());
+        assertEquals(AUTHOR, response.getAuthor());
+        assertNull(response.getStatus());
+        assertNull(response.getVersion());
+    }
+
+    @Test
+    void whenMapNullReturnNull() {
+        assertNull(bookMapper.toResponseDto(null));
+        assertNull(bookMapper.toEntity(null));
+    }
+}
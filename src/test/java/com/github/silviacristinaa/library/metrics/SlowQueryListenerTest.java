@@ -0,0 +1,83 @@
+package com.github.silviacristinaa.library.metrics;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(SpringExtension.class)
+public class SlowQueryListenerTest {
+
+    private static final String SQL = "select b.id from book b where b.id=? and b.title=?";
+
+    private SlowQueryListener slowQueryListener;
+    private ListAppender<ILoggingEvent> appender;
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        slowQueryListener = new SlowQueryListener(Duration.ofMillis(100));
+        logger = (Logger) LoggerFactory.getLogger("library.slow-query");
+        appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    void whenBelowThresholdLogNothing() throws NoSuchMethodException {
+        slowQueryListener.afterQuery(executionInfo(99), List.of(queryInfo()));
+
+        assertTrue(appender.list.isEmpty());
+    }
+
+    @Test
+    void whenAboveThresholdLogShapesAndOrigin() throws NoSuchMethodException {
+        slowQueryListener.afterQuery(executionInfo(150), List.of(queryInfo()));
+
+        assertEquals(1, appender.list.size());
+        assertEquals("slow_query elapsed_ms=150 origin=unknown batch_size=1 params=[Long,String,null] sql=\""
+                + SQL + "\"", appender.list.get(0).getFormattedMessage());
+    }
+
+    private static ExecutionInfo executionInfo(long elapsedMillis) {
+        ExecutionInfo executionInfo = new ExecutionInfo();
+        executionInfo.setElapsedTime(elapsedMillis);
+        return executionInfo;
+    }
+
+    private static QueryInfo queryInfo() throws NoSuchMethodException {
+        List<ParameterSetOperation> parameters = new ArrayList<>();
+        parameters.add(new ParameterSetOperation(PreparedStatement.class.getMethod("setLong", int.class, long.class),
+                new Object[]{1, 1L}));
+        parameters.add(new ParameterSetOperation(
+                PreparedStatement.class.getMethod("setString", int.class, String.class),
+                new Object[]{2, "secret title"}));
+        parameters.add(new ParameterSetOperation(PreparedStatement.class.getMethod("setNull", int.class, int.class),
+                new Object[]{3, 12}));
+
+        QueryInfo queryInfo = new QueryInfo(SQL);
+        queryInfo.getParametersList().add(parameters);
+        return queryInfo;
+    }
+}
@@ -0,0 +1,66 @@
+package com.github.silviacristinaa.library.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@ExtendWith(SpringExtension.class)
+public class SmallBodyBufferTest {
+
+    private static final int THRESHOLD = 8;
+
+    private MockHttpServletResponse servletResponse;
+    private ServletServerHttpResponse response;
+
+    @BeforeEach
+    void setUp() {
+        servletResponse = new MockHttpServletResponse();
+        response = new ServletServerHttpResponse(servletResponse);
+    }
+
+    @Test
+    void whenBodyBelowThresholdSendWithLength() throws IOException {
+        SmallBodyBuffer.write(response, THRESHOLD, message -> {
+            message.getBody().write("{\"a\":".getBytes());
+            message.getBody().flush();
+            assertEquals(0, servletResponse.getContentAsByteArray().length);
+            message.getBody().write('1');
+        });
+        response.flush();
+
+        assertEquals("{\"a\":1", servletResponse.getContentAsString());
+        assertEquals("6", servletResponse.getHeader(HttpHeaders.CONTENT_LENGTH));
+    }
+
+    @Test
+    void whenBodyReachesThresholdStreamWithoutLength() throws IOException {
+        SmallBodyBuffer.write(response, THRESHOLD, message -> {
+            message.getBody().write("{\"a\":".getBytes());
+            message.getBody().write("\"long\"}".getBytes());
+            assertEquals(12, servletResponse.getContentAsByteArray().length);
+        });
+        response.flush();
+
+        assertEquals("{\"a\":\"long\"}", servletResponse.getContentAsString());
+        assertNull(servletResponse.getHeader(HttpHeaders.CONTENT_LENGTH));
+    }
+
+    @Test
+    void whenThresholdDisabledStreamAsIs() throws IOException {
+        SmallBodyBuffer.write(response, 0, message -> {
+            message.getBody().write('1');
+            assertEquals(1, servletResponse.getContentAsByteArray().length);
+        });
+
+        assertNull(servletResponse.getHeader(HttpHeaders.CONTENT_LENGTH));
+    }
+}
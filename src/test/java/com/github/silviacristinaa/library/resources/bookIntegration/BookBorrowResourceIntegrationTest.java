@@ -0,0 +1,141 @@
+package com.github.silviacristinaa.library.resources.bookIntegration;
+
+import com.github.silviacristinaa.library.entities.Book;
+import com.github.silviacristinaa.library.enums.BookStatusEnum;
+import com.github.silviacristinaa.library.repositories.BookRepository;
+import com.github.silviacristinaa.library.resources.integrations.IntegrationTests;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class BookBorrowResourceIntegrationTest extends IntegrationTests {
+
+    private static final int CONCURRENT_REQUESTS = 16;
+
+    private Long bookId;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @AfterAll
+    public void tearDown() {
+        bookRepository.deleteAll();
+    }
+
+    @Test
+    @Order(1)
+    public void whenTryBorrowWithIncorrectIdReturnNotFound() throws Exception {
+        mvc.perform(post("/books/{id}/borrow", 999_999).headers(mockHttpHeaders()))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("errors.[0]", is("Book 999999 not found")));
+    }
+
+    @Test
+    @Order(2)
+    public void whenBorrowConcurrentlyOnlyOneRequestSucceeds() throws Exception {
+        bookId = bookRepository.save(new Book(null, "Popular", "Author", BookStatusEnum.AVAILABLE)).getId();
+
+        List<Integer> statuses = sendConcurrently("/books/{id}/borrow");
+
+        assertEquals(1, statuses.stream().filter(status -> status == 204).count());
+        assertEquals(CONCURRENT_REQUESTS - 1, statuses.stream().filter(status -> status == 409).count());
+        assertEquals(BookStatusEnum.BORROWED, bookRepository.findById(bookId).get().getStatus());
+    }
+
+    @Test
+    @Order(3)
+    public void whenTryBorrowBorrowedBookReturnConflict() throws Exception {
+        mvc.perform(post("/books/{id}/borrow", bookId).headers(mockHttpHeaders()))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("message", is("Conflict")))
+                .andExpect(jsonPath("errors.[0]", is("Book " + bookId + " is already borrowed")));
+
+        mvc.perform(get("/books/{id}", bookId).headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("status", is("BORROWED")));
+    }
+
+    @Test
+    @Order(4)
+    public void whenReturnConcurrentlyOnlyOneRequestSucceeds() throws Exception {
+        List<Integer> statuses = sendConcurrently("/books/{id}/return");
+
+        assertEquals(1, statuses.stream().filter(status -> status == 204).count());
+        assertEquals(CONCURRENT_REQUESTS - 1, statuses.stream().filter(status -> status == 409).count());
+
+        mvc.perform(get("/books/{id}", bookId).headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("status", is("AVAILABLE")));
+    }
+
+    @Test
+    @Order(5)
+    public void whenDeleteAndBorrowConcurrentlyNeverDeleteBorrowedBook() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            Future<Integer> borrow = executor.submit(request(start, post("/books/{id}/borrow", bookId)));
+            Future<Integer> delete = executor.submit(request(start, delete("/books/{id}", bookId)));
+            start.countDown();
+
+            int borrowStatus = borrow.get();
+            int deleteStatus = delete.get();
+
+            if (deleteStatus == 204) {
+                assertEquals(404, borrowStatus);
+                assertFalse(bookRepository.existsById(bookId));
+            } else {
+                assertEquals(204, borrowStatus);
+                assertEquals(400, deleteStatus);
+                assertEquals(BookStatusEnum.BORROWED, bookRepository.findById(bookId).get().getStatus());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private List<Integer> sendConcurrently(String uri) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> responses = new ArrayList<>(CONCURRENT_REQUESTS);
+
+        try {
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                responses.add(executor.submit(request(start, post(uri, bookId))));
+            }
+            start.countDown();
+
+            List<Integer> statuses = new ArrayList<>(CONCURRENT_REQUESTS);
+            for (Future<Integer> response : responses) {
+                statuses.add(response.get());
+            }
+            return statuses;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private Callable<Integer> request(CountDownLatch start, MockHttpServletRequestBuilder request) {
+        return () -> {
+            start.await();
+            return mvc.perform(request.headers(mockHttpHeaders())).andReturn().getResponse().getStatus();
+        };
+    }
+}
@@ -0,0 +1,134 @@
+package com.github.silviacristinaa.library.resources.bookIntegration;
+
+import com.github.silviacristinaa.library.dtos.requests.BookBulkStatusRequestDto;
+import com.github.silviacristinaa.library.dtos.requests.BookBulkUpdateRequestDto;
+import com.github.silviacristinaa.library.dtos.requests.BookRequestDto;
+import com.github.silviacristinaa.library.entities.Book;
+import com.github.silviacristinaa.library.enums.BookStatusEnum;
+import com.github.silviacristinaa.library.repositories.BookRepository;
+import com.github.silviacristinaa.library.resources.integrations.IntegrationTests;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class BookBulkResourceIntegrationTest extends IntegrationTests {
+
+    private static final int BOOKS = 120;
+
+    private final List<Long> bookIds = new ArrayList<>();
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @AfterAll
+    public void tearDown() {
+        bookRepository.deleteAll();
+    }
+
+    @Test
+    @Order(1)
+    public void whenTryCreateAllWithoutItemsReturnBadRequest() throws Exception {
+        mvc.perform(post("/books/bulk").headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(List.of())))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors.[0]", is("Bulk size must be between 1 and 1000")));
+    }
+
+    @Test
+    @Order(2)
+    public void whenCreateAllReturnItemResults() throws Exception {
+        List<BookRequestDto> books = new ArrayList<>(IntStream.range(0, BOOKS)
+                .mapToObj(i -> new BookRequestDto("Title " + i, "Author " + i)).toList());
+        books.add(BookResourceIntegrationBody.bookException());
+
+        String body = mvc.perform(post("/books/bulk").headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(books)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("succeeded", is(BOOKS)))
+                .andExpect(jsonPath("failed", is(1)))
+                .andExpect(jsonPath("items[0].status", is(201)))
+                .andExpect(jsonPath("items[0].id", notNullValue()))
+                .andExpect(jsonPath("items[" + BOOKS + "].index", is(BOOKS)))
+                .andExpect(jsonPath("items[" + BOOKS + "].status", is(400)))
+                .andExpect(jsonPath("items[" + BOOKS + "].error", is("title must not be blank")))
+                .andReturn().getResponse().getContentAsString();
+
+        objectMapper.readTree(body).get("items").forEach(item -> {
+            if (item.get("status").asInt() == 201) {
+                bookIds.add(item.get("id").asLong());
+            }
+        });
+
+        assertEquals(BOOKS, bookIds.size());
+        assertEquals(BOOKS, bookRepository.findAllById(bookIds).size());
+    }
+
+    @Test
+    @Order(3)
+    public void whenUpdateAllReturnItemResults() throws Exception {
+        List<BookBulkUpdateRequestDto> books = List.of(
+                new BookBulkUpdateRequestDto(bookIds.get(0), "Updated Test", "updated test"),
+                new BookBulkUpdateRequestDto(999_999L, "Updated Test", "updated test"));
+
+        mvc.perform(put("/books/bulk").headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(books)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("succeeded", is(1)))
+                .andExpect(jsonPath("failed", is(1)))
+                .andExpect(jsonPath("items[0].status", is(204)))
+                .andExpect(jsonPath("items[1].status", is(404)))
+                .andExpect(jsonPath("items[1].error", is("Book 999999 not found")));
+
+        mvc.perform(get("/books/{id}", bookIds.get(0)).headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("title", is("Updated Test")))
+                .andExpect(jsonPath("author", is("updated test")));
+    }
+
+    @Test
+    @Order(4)
+    public void whenTryUpdateAllBookStatusWithInvalidFieldsReturnBadRequest() throws Exception {
+        mvc.perform(patch("/books/bulk/status").headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(
+                                new BookBulkStatusRequestDto(List.of(), BookStatusEnum.BORROWED))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("message", is("Arguments not valid")));
+    }
+
+    @Test
+    @Order(5)
+    public void whenUpdateAllBookStatusReturnItemResults() throws Exception {
+        List<Long> ids = new ArrayList<>(bookIds);
+        ids.add(999_999L);
+
+        mvc.perform(get("/books/{id}", bookIds.get(1)).headers(mockHttpHeaders()))
+                .andExpect(jsonPath("status", is("AVAILABLE")));
+
+        mvc.perform(patch("/books/bulk/status").headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(
+                                new BookBulkStatusRequestDto(ids, BookStatusEnum.BORROWED))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("succeeded", is(BOOKS)))
+                .andExpect(jsonPath("failed", is(1)))
+                .andExpect(jsonPath("items[" + BOOKS + "].status", is(404)));
+
+        assertTrue(bookRepository.findAllById(bookIds).stream()
+                .map(Book::getStatus).allMatch(BookStatusEnum.BORROWED::equals));
+
+        mvc.perform(get("/books/{id}", bookIds.get(1)).headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("status", is("BORROWED")));
+    }
+}
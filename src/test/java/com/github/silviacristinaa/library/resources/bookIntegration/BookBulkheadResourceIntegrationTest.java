@@ -0,0 +1,86 @@
+package com.github.silviacristinaa.library.resources.bookIntegration;
+
+import com.github.silviacristinaa.library.dtos.requests.BookRequestDto;
+import com.github.silviacristinaa.library.filters.ConnectionBulkheadFilter;
+import com.github.silviacristinaa.library.resources.integrations.IntegrationTests;
+import com.github.silviacristinaa.library.services.BookEventService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestPropertySource(properties = {
+        "spring.threads.virtual.enabled=true",
+        "library.bulkhead.max-concurrent-requests=2"})
+public class BookBulkheadResourceIntegrationTest extends IntegrationTests {
+
+    private static final int STREAMS = 3;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final List<CompletableFuture<HttpResponse<Stream<String>>>> streams = new ArrayList<>();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private FilterRegistrationBean<ConnectionBulkheadFilter> connectionBulkheadFilter;
+
+    @Autowired
+    private BookEventService bookEventService;
+
+    @AfterAll
+    public void tearDown() {
+        streams.forEach(stream -> stream.thenAccept(response -> response.body().close()));
+        client.close();
+    }
+
+    @Test
+    @Order(1)
+    public void whenEventStreamsOpenKeepPermitsForOtherRequests() throws Exception {
+        // Gives every stream an event to catch up on, so its headers are sent
+        mvc.perform(post("/books").headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(new BookRequestDto("Bulkhead", "bulkhead"))))
+                .andExpect(status().isCreated());
+        bookEventService.relay();
+
+        HttpRequest stream = HttpRequest.newBuilder(uri("/books/events/stream"))
+                .header(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE)
+                .build();
+        for (int i = 0; i < STREAMS; i++) {
+            streams.add(client.sendAsync(stream, HttpResponse.BodyHandlers.ofLines()));
+        }
+
+        // More streams than permits are open, yet none of them keeps one
+        for (CompletableFuture<HttpResponse<Stream<String>>> response : streams) {
+            assertEquals(200, response.get(10, TimeUnit.SECONDS).statusCode());
+        }
+        assertEquals(2, connectionBulkheadFilter.getFilter().availablePermits());
+
+        HttpResponse<Void> books = client.send(HttpRequest.newBuilder(uri("/books")).build(),
+                HttpResponse.BodyHandlers.discarding());
+        assertEquals(200, books.statusCode());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + "/api/vi" + path);
+    }
+}
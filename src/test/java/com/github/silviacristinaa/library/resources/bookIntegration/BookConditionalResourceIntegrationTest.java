@@ -0,0 +1,141 @@
+package com.github.silviacristinaa.library.resources.bookIntegration;
+
+import com.github.silviacristinaa.library.configs.CacheConfig;
+import com.github.silviacristinaa.library.dtos.requests.BookRequestDto;
+import com.github.silviacristinaa.library.dtos.responses.BookResponseDto;
+import com.github.silviacristinaa.library.repositories.BookRepository;
+import com.github.silviacristinaa.library.resources.integrations.IntegrationTests;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class BookConditionalResourceIntegrationTest extends IntegrationTests {
+
+    private String bookId;
+    private String bookETag;
+    private String lastModified;
+    private String pageETag;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @AfterAll
+    public void tearDown() {
+        bookRepository.deleteAll();
+    }
+
+    @Test
+    @Order(1)
+    public void whenFindByIdReturnETagAndLastModified() throws Exception {
+        mvc.perform(post("/books").headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(new BookRequestDto("Conditional", "conditional"))))
+                .andExpect(status().isCreated())
+                .andDo(i -> bookId = getIdByLocation(i.getResponse().getHeader("Location")));
+
+        MockHttpServletResponse response = mvc.perform(get("/books/{id}", bookId).headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"0\""))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andExpect(jsonPath("$.version").doesNotExist())
+                .andReturn().getResponse();
+
+        bookETag = response.getHeader(HttpHeaders.ETAG);
+        lastModified = response.getHeader(HttpHeaders.LAST_MODIFIED);
+        assertNotNull(lastModified);
+    }
+
+    @Test
+    @Order(2)
+    public void whenFindByIdWithMatchingETagReturnNotModified() throws Exception {
+        mvc.perform(get("/books/{id}", bookId).headers(mockHttpHeaders())
+                        .header(HttpHeaders.IF_NONE_MATCH, bookETag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, bookETag))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @Order(3)
+    public void whenFindByIdNotModifiedSinceReturnNotModified() throws Exception {
+        mvc.perform(get("/books/{id}", bookId).headers(mockHttpHeaders())
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @Order(4)
+    public void whenFindAllWithMatchingETagReturnNotModified() throws Exception {
+        pageETag = mvc.perform(get("/books").headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mvc.perform(get("/books").headers(mockHttpHeaders()).header(HttpHeaders.IF_NONE_MATCH, pageETag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mvc.perform(get("/books").param("size", "5").headers(mockHttpHeaders())
+                        .header(HttpHeaders.IF_NONE_MATCH, pageETag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @Order(5)
+    public void whenBookChangesReturnNewETags() throws Exception {
+        mvc.perform(post("/books/{id}/borrow", bookId).headers(mockHttpHeaders()))
+                .andExpect(status().isNoContent());
+
+        mvc.perform(get("/books/{id}", bookId).headers(mockHttpHeaders())
+                        .header(HttpHeaders.IF_NONE_MATCH, bookETag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"1\""))
+                .andExpect(jsonPath("status", is("BORROWED")));
+
+        mvc.perform(get("/books").headers(mockHttpHeaders()).header(HttpHeaders.IF_NONE_MATCH, pageETag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @Order(6)
+    public void whenUpdateBookReturnNewETag() throws Exception {
+        mvc.perform(put("/books/{id}", bookId).headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(new BookRequestDto("Updated", "updated"))))
+                .andExpect(status().isNoContent());
+
+        String eTag = mvc.perform(get("/books/{id}", bookId).headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertEquals("W/\"2\"", eTag);
+    }
+
+    @Test
+    @Order(7)
+    public void whenReadFinishesAfterWriteKeepWrittenBookCached() throws Exception {
+        // An uncached read takes the row, then a return commits before the read caches what it took
+        BookResponseDto stale = bookRepository.findResponseDtoById(Long.valueOf(bookId)).orElseThrow();
+        mvc.perform(post("/books/{id}/return", bookId).headers(mockHttpHeaders()))
+                .andExpect(status().isNoContent());
+        cacheManager.getCache(CacheConfig.BOOKS).put(stale.getId(), stale);
+
+        mvc.perform(get("/books/{id}", bookId).headers(mockHttpHeaders())
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/\"2\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"3\""))
+                .andExpect(jsonPath("status", is("AVAILABLE")));
+    }
+}
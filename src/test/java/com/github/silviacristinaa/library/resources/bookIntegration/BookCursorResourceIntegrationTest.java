@@ -0,0 +1,131 @@
+package com.github.silviacristinaa.library.resources.bookIntegration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.silviacristinaa.library.entities.Book;
+import com.github.silviacristinaa.library.enums.BookStatusEnum;
+import com.github.silviacristinaa.library.repositories.BookRepository;
+import com.github.silviacristinaa.library.resources.integrations.IntegrationTests;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class BookCursorResourceIntegrationTest extends IntegrationTests {
+
+    private static final int BOOKS = 30;
+    private static final int PAGE_SIZE = 7;
+    private static final int CONCURRENT_BOOKS = 100;
+
+    private List<Long> bookIds;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @AfterAll
+    public void tearDown() {
+        bookRepository.deleteAll();
+    }
+
+    @Test
+    @Order(1)
+    public void whenFindAllByCursorWithInvalidCursorReturnBadRequest() throws Exception {
+        mvc.perform(get("/books/cursor").param("cursor", "not-a-cursor").headers(mockHttpHeaders()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("message", is("Bad Request")))
+                .andExpect(jsonPath("errors.[0]", is("Invalid cursor")));
+    }
+
+    @Test
+    @Order(2)
+    public void whenFindAllByCursorWithInvalidSizeReturnBadRequest() throws Exception {
+        mvc.perform(get("/books/cursor").param("size", "0").headers(mockHttpHeaders()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors.[0]", is("Size must be between 1 and 100")));
+    }
+
+    @Test
+    @Order(3)
+    public void whenFindAllByCursorReturnAllBooksInIdOrder() throws Exception {
+        bookIds = bookRepository.saveAll(IntStream.range(0, BOOKS)
+                        .mapToObj(i -> new Book(null, "Title " + i, "Author " + i, BookStatusEnum.AVAILABLE))
+                        .toList())
+                .stream().map(Book::getId).toList();
+
+        assertEquals(bookIds, readAllPages());
+    }
+
+    @Test
+    @Order(4)
+    public void whenFindAllByCursorOnLastPageReturnNoNextCursor() throws Exception {
+        mvc.perform(get("/books/cursor").param("size", "100").headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("size", is(BOOKS)))
+                .andExpect(jsonPath("nextCursor", nullValue()));
+    }
+
+    @Test
+    @Order(5)
+    public void whenFindAllByCursorDuringConcurrentInsertsKeepOrderingStable() throws Exception {
+        AtomicBoolean reading = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        Future<?> writer = executor.submit(() -> {
+            for (int i = 0; i < CONCURRENT_BOOKS && reading.get(); i++) {
+                bookRepository.save(new Book(null, "Concurrent " + i, "Author " + i, BookStatusEnum.AVAILABLE));
+            }
+        });
+
+        List<Long> readIds;
+        try {
+            readIds = readAllPages();
+        } finally {
+            reading.set(false);
+            writer.get();
+            executor.shutdown();
+        }
+
+        for (int i = 1; i < readIds.size(); i++) {
+            assertTrue(readIds.get(i - 1) < readIds.get(i));
+        }
+        assertTrue(readIds.containsAll(bookIds));
+    }
+
+    private List<Long> readAllPages() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+
+        do {
+            MockHttpServletRequestBuilder request = get("/books/cursor")
+                    .param("size", String.valueOf(PAGE_SIZE)).headers(mockHttpHeaders());
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+
+            String body = mvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+
+            JsonNode page = objectMapper.readTree(body);
+            page.get("content").forEach(book -> ids.add(book.get("id").asLong()));
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+        } while (cursor != null);
+
+        return ids;
+    }
+}
@@ -0,0 +1,142 @@
+package com.github.silviacristinaa.library.resources.bookIntegration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.github.silviacristinaa.library.dtos.requests.BookRequestDto;
+import com.github.silviacristinaa.library.repositories.BookRepository;
+import com.github.silviacristinaa.library.resources.integrations.IntegrationTests;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class BookEncodingResourceIntegrationTest extends IntegrationTests {
+
+    private static final int BOOKS = 30;
+    private static final MediaType APPLICATION_SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+    private Long bookId;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @BeforeAll
+    public void setUp() throws Exception {
+        List<BookRequestDto> books = IntStream.range(0, BOOKS)
+                .mapToObj(i -> new BookRequestDto("Encoded title " + i, "Encoded author " + i)).toList();
+        String body = mvc.perform(post("/books/bulk").headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(books)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        bookId = objectMapper.readTree(body).get("items").get(0).get("id").asLong();
+    }
+
+    @AfterAll
+    public void tearDown() {
+        bookRepository.deleteAll();
+    }
+
+    @Test
+    @Order(1)
+    public void whenFindAllReturnSlimPageEnvelope() throws Exception {
+        mvc.perform(get("/books").param("size", "20").headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("content.length()", is(20)))
+                .andExpect(jsonPath("number", is(0)))
+                .andExpect(jsonPath("size", is(20)))
+                .andExpect(jsonPath("totalElements", is(BOOKS)))
+                .andExpect(jsonPath("totalPages", is(2)))
+                .andExpect(jsonPath("pageable").doesNotExist())
+                .andExpect(jsonPath("sort").doesNotExist())
+                .andExpect(jsonPath("numberOfElements").doesNotExist());
+    }
+
+    @Test
+    @Order(2)
+    public void whenAcceptAnyReturnJson() throws Exception {
+        mvc.perform(get("/books").accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @Order(3)
+    public void whenAcceptCborReturnCborPage() throws Exception {
+        byte[] body = mvc.perform(get("/books").param("size", "20").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertPage(new CBORMapper().readTree(body));
+    }
+
+    @Test
+    @Order(4)
+    public void whenAcceptSmileReturnSmilePage() throws Exception {
+        byte[] body = mvc.perform(get("/books").param("size", "20").accept(APPLICATION_SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(APPLICATION_SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertPage(new SmileMapper().readTree(body));
+    }
+
+    @Test
+    @Order(5)
+    public void whenAcceptGzipReturnLargeResponsesGzipped() throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+
+        HttpResponse<byte[]> page = client.send(request("/books?size=20"), HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals(200, page.statusCode());
+        assertEquals("gzip", page.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElse(null));
+        assertTrue(page.headers().firstValue(HttpHeaders.ETAG).orElseThrow().startsWith("W/"));
+        // Tomcat rewrites the Vary the resource set in lower case, with accept-encoding appended
+        assertEquals(List.of("accept", "accept-encoding"), page.headers().allValues(HttpHeaders.VARY).stream()
+                .flatMap(vary -> Arrays.stream(vary.split(","))).map(String::trim).toList());
+
+        HttpResponse<byte[]> book = client.send(request("/books/" + bookId), HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals(200, book.statusCode());
+        // A book is under min-response-size, so it is sent with its length and not compressed
+        assertTrue(book.headers().firstValue(HttpHeaders.CONTENT_ENCODING).isEmpty());
+        assertEquals(book.body().length,
+                Integer.parseInt(book.headers().firstValue(HttpHeaders.CONTENT_LENGTH).orElseThrow()));
+        assertTrue(book.headers().firstValue(HttpHeaders.ETAG).orElseThrow().startsWith("W/"));
+    }
+
+    private HttpRequest request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/vi" + path))
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .build();
+    }
+
+    private static void assertPage(JsonNode page) {
+        assertEquals(20, page.get("content").size());
+        assertEquals(BOOKS, page.get("totalElements").asInt());
+        assertTrue(page.get("content").get(0).get("title").asText().startsWith("Encoded title"));
+        assertFalse(page.get("content").get(0).has("version"));
+        assertFalse(page.has("pageable"));
+    }
+}
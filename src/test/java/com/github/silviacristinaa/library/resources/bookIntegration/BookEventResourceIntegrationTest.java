@@ -0,0 +1,147 @@
+package com.github.silviacristinaa.library.resources.bookIntegration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.silviacristinaa.library.dtos.requests.BookRequestDto;
+import com.github.silviacristinaa.library.repositories.BookEventRepository;
+import com.github.silviacristinaa.library.resources.integrations.IntegrationTests;
+import com.github.silviacristinaa.library.services.BookEventService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class BookEventResourceIntegrationTest extends IntegrationTests {
+
+    private long startPosition;
+    private String bookId;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private BookEventRepository bookEventRepository;
+
+    @Autowired
+    private BookEventService bookEventService;
+
+    @BeforeAll
+    public void setUp() {
+        bookEventService.relay();
+        startPosition = bookEventRepository.findMaxStreamPosition();
+    }
+
+    @Test
+    @Order(1)
+    public void whenBookChangesReturnItsEventsInOrder() throws Exception {
+        mvc.perform(post("/books").headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(new BookRequestDto("Outbox", "outbox"))))
+                .andExpect(status().isCreated())
+                .andDo(i -> bookId = getIdByLocation(i.getResponse().getHeader("Location")));
+        mvc.perform(put("/books/{id}", bookId).headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(new BookRequestDto("Outbox 2", "outbox"))))
+                .andExpect(status().isNoContent());
+        mvc.perform(post("/books/{id}/borrow", bookId).headers(mockHttpHeaders()))
+                .andExpect(status().isNoContent());
+        mvc.perform(post("/books/{id}/borrow", bookId).headers(mockHttpHeaders()))
+                .andExpect(status().isConflict());
+        mvc.perform(post("/books/{id}/return", bookId).headers(mockHttpHeaders()))
+                .andExpect(status().isNoContent());
+        mvc.perform(delete("/books/{id}", bookId).headers(mockHttpHeaders()))
+                .andExpect(status().isNoContent());
+
+        mvc.perform(get("/books/events").param("after", String.valueOf(startPosition))
+                        .headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[]"));
+
+        bookEventService.relay();
+
+        JsonNode events = objectMapper.readTree(mvc.perform(get("/books/events")
+                        .param("after", String.valueOf(startPosition)).headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+
+        assertEquals(List.of("CREATED", "UPDATED", "STATUS_CHANGED", "STATUS_CHANGED", "DELETED"), types(events));
+        assertEquals("Outbox 2", events.get(1).get("title").asText());
+        assertEquals("BORROWED", events.get(2).get("status").asText());
+        assertEquals("AVAILABLE", events.get(3).get("status").asText());
+        for (int i = 0; i < events.size(); i++) {
+            assertEquals(startPosition + i + 1, events.get(i).get("position").asLong());
+        }
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i, events.get(i).get("bookVersion").asLong());
+        }
+        assertFalse(events.get(4).has("bookVersion"));
+    }
+
+    @Test
+    @Order(2)
+    public void whenTryFindEventsWithInvalidLimitReturnBadRequest() throws Exception {
+        mvc.perform(get("/books/events").param("limit", "0").headers(mockHttpHeaders()))
+                .andExpect(status().isBadRequest());
+        mvc.perform(get("/books/events").param("after", "-1").headers(mockHttpHeaders()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Order(3)
+    public void whenStreamResumedCatchUpThenReceiveLiveEvents() throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        URI uri = URI.create("http://localhost:" + port + "/api/vi/books/events/stream");
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE)
+                .header("Last-Event-ID", String.valueOf(startPosition + 3))
+                .build();
+        HttpResponse<Stream<String>> response = client.send(request, HttpResponse.BodyHandlers.ofLines());
+        assertEquals(200, response.statusCode());
+
+        Iterator<String> lines = response.body().iterator();
+        CompletableFuture<List<String>> received = CompletableFuture.supplyAsync(() -> readIds(lines, 3));
+
+        // Two events are caught up from the table and the third arrives live
+        mvc.perform(post("/books").headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(new BookRequestDto("Live", "live"))))
+                .andExpect(status().isCreated());
+        bookEventService.relay();
+
+        assertEquals(List.of(String.valueOf(startPosition + 4), String.valueOf(startPosition + 5),
+                String.valueOf(startPosition + 6)), received.get(10, TimeUnit.SECONDS));
+        response.body().close();
+    }
+
+    private static List<String> types(JsonNode events) {
+        List<String> types = new ArrayList<>();
+        events.forEach(event -> types.add(event.get("type").asText()));
+        return types;
+    }
+
+    private static List<String> readIds(Iterator<String> lines, int count) {
+        List<String> ids = new ArrayList<>();
+        while (ids.size() < count && lines.hasNext()) {
+            String line = lines.next();
+            if (line.startsWith("id:")) {
+                ids.add(line.substring("id:".length()));
+            }
+        }
+        return ids;
+    }
+}
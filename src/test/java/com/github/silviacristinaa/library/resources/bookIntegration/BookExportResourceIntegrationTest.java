@@ -0,0 +1,79 @@
+package com.github.silviacristinaa.library.resources.bookIntegration;
+
+import com.github.silviacristinaa.library.entities.Book;
+import com.github.silviacristinaa.library.enums.BookStatusEnum;
+import com.github.silviacristinaa.library.repositories.BookRepository;
+import com.github.silviacristinaa.library.resources.integrations.IntegrationTests;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class BookExportResourceIntegrationTest extends IntegrationTests {
+
+    private static final int BOOKS = 2_500;
+
+    private List<Book> books;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @BeforeAll
+    public void setUp() {
+        books = bookRepository.saveAll(IntStream.range(0, BOOKS)
+                .mapToObj(i -> new Book(null, "Title, " + i, "Author " + i, BookStatusEnum.AVAILABLE))
+                .toList());
+    }
+
+    @AfterAll
+    public void tearDown() {
+        bookRepository.deleteAll();
+    }
+
+    @Test
+    @Order(1)
+    public void whenExportNdjsonReturnAllBooks() throws Exception {
+        MvcResult result = mvc.perform(get("/books/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String[] lines = mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition", containsString("books.ndjson")))
+                .andReturn().getResponse().getContentAsString().split("\n");
+
+        assertEquals(BOOKS, lines.length);
+        assertEquals(books.get(0).getId(), objectMapper.readTree(lines[0]).get("id").asLong());
+        assertEquals("Title, 0", objectMapper.readTree(lines[0]).get("title").asText());
+        assertEquals(books.get(BOOKS - 1).getId(), objectMapper.readTree(lines[BOOKS - 1]).get("id").asLong());
+    }
+
+    @Test
+    @Order(2)
+    public void whenExportCsvReturnAllBooks() throws Exception {
+        MvcResult result = mvc.perform(get("/books/export").param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String[] lines = mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andReturn().getResponse().getContentAsString().split("\n");
+
+        assertEquals(BOOKS + 1, lines.length);
+        assertEquals("id,title,author,status", lines[0]);
+        assertEquals(books.get(0).getId() + ",\"Title, 0\",Author 0,AVAILABLE", lines[1]);
+    }
+}
@@ -0,0 +1,156 @@
+package com.github.silviacristinaa.library.resources.bookIntegration;
+
+import com.github.silviacristinaa.library.entities.Book;
+import com.github.silviacristinaa.library.enums.BookStatusEnum;
+import com.github.silviacristinaa.library.repositories.BookRepository;
+import com.github.silviacristinaa.library.resources.integrations.IntegrationTests;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.ChainListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import javax.sql.DataSource;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class BookFilterResourceIntegrationTest extends IntegrationTests {
+
+    private static final String FROM_BOOK = " from book ";
+
+    private final List<QueryInfo> statements = new CopyOnWriteArrayList<>();
+    private final QueryExecutionListener statementCapture = new QueryExecutionListener() {
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            statements.addAll(queryInfoList);
+        }
+    };
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeAll
+    public void setUp() {
+        listeners().addListener(statementCapture);
+    }
+
+    @AfterAll
+    public void tearDown() {
+        listeners().getListeners().remove(statementCapture);
+        bookRepository.deleteAll();
+    }
+
+    @Test
+    @Order(1)
+    public void whenFindAllWithFiltersReturnMatchingBooks() throws Exception {
+        bookRepository.saveAll(List.of(
+                new Book(null, "Dune", "Frank Herbert", BookStatusEnum.AVAILABLE),
+                new Book(null, "Dune Messiah", "Frank Herbert", BookStatusEnum.BORROWED),
+                new Book(null, "Emma", "Jane Austen", BookStatusEnum.AVAILABLE),
+                new Book(null, "100%_Pure", "Jane Austen", BookStatusEnum.AVAILABLE)));
+
+        mvc.perform(get("/books").param("status", "AVAILABLE").headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("totalElements", is(3)));
+
+        mvc.perform(get("/books").param("author", "Frank Herbert").param("status", "BORROWED")
+                        .headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("totalElements", is(1)))
+                .andExpect(jsonPath("content[0].title", is("Dune Messiah")));
+
+        mvc.perform(get("/books").param("title", "Dune").param("sort", "title,desc").headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("totalElements", is(2)))
+                .andExpect(jsonPath("content[0].title", is("Dune Messiah")));
+    }
+
+    @Test
+    @Order(2)
+    public void whenFindAllWithWildcardInTitlePrefixMatchLiterally() throws Exception {
+        mvc.perform(get("/books").param("title", "100%_").headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("totalElements", is(1)));
+
+        mvc.perform(get("/books").param("title", "%").headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("totalElements", is(0)));
+    }
+
+    @Test
+    @Order(3)
+    public void whenFilterByStatusUseStatusIndex() throws Exception {
+        assertIndexScan(get("/books").param("status", "AVAILABLE"), "IDX_BOOK_STATUS_ID");
+    }
+
+    @Test
+    @Order(4)
+    public void whenFilterByAuthorAndStatusUseAuthorIndex() throws Exception {
+        assertIndexScan(get("/books").param("author", "Jane Austen").param("status", "AVAILABLE"),
+                "IDX_BOOK_AUTHOR_STATUS");
+    }
+
+    @Test
+    @Order(5)
+    public void whenFilterByTitlePrefixUseTitleIndex() throws Exception {
+        assertIndexScan(get("/books").param("title", "Dun"), "IDX_BOOK_TITLE");
+    }
+
+    /**
+     * Explains the statements the request actually ran against the book table, with the values they were bound to.
+     */
+    private void assertIndexScan(MockHttpServletRequestBuilder request, String index) throws Exception {
+        statements.clear();
+        mvc.perform(request.headers(mockHttpHeaders())).andExpect(status().isOk());
+
+        List<QueryInfo> selects = statements.stream()
+                .filter(statement -> statement.getQuery().startsWith("select")
+                        && statement.getQuery().contains(FROM_BOOK))
+                .toList();
+        assertFalse(selects.isEmpty());
+
+        for (QueryInfo select : selects) {
+            String plan = jdbcTemplate.queryForObject("EXPLAIN " + select.getQuery(), String.class,
+                    parameters(select));
+
+            assertNotNull(plan);
+            assertTrue(plan.contains(index), plan);
+            assertFalse(plan.contains("tableScan"), plan);
+        }
+    }
+
+    private ChainListener listeners() {
+        return (ChainListener) ((ProxyDataSource) dataSource).getProxyConfig().getQueryListener();
+    }
+
+    private static Object[] parameters(QueryInfo statement) {
+        return statement.getParametersList().get(0).stream()
+                .sorted(Comparator.comparingInt(operation -> (Integer) operation.getArgs()[0]))
+                .map(operation -> operation.getArgs()[1])
+                .toArray();
+    }
+}
@@ -0,0 +1,102 @@
+package com.github.silviacristinaa.library.resources.bookIntegration;
+
+import com.github.silviacristinaa.library.dtos.requests.BookRequestDto;
+import com.github.silviacristinaa.library.repositories.BookRepository;
+import com.github.silviacristinaa.library.repositories.IdempotencyKeyRepository;
+import com.github.silviacristinaa.library.resources.integrations.IntegrationTests;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestPropertySource(properties = "library.idempotency.persistent=true")
+public class BookIdempotencyResourceIntegrationTest extends IntegrationTests {
+
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    private static final String KEY = "c0ffee-1";
+    private static final int THREADS = 16;
+
+    private String location;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @AfterAll
+    public void tearDown() {
+        idempotencyKeyRepository.deleteAll();
+        bookRepository.deleteAll();
+    }
+
+    @Test
+    @Order(1)
+    public void whenConcurrentRetriesShareKeyInsertOnce() throws Exception {
+        String body = objectMapper.writeValueAsString(new BookRequestDto("Retried", "gateway"));
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<MockHttpServletResponse>> responses = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                responses.add(executor.submit(() -> {
+                    start.await();
+                    return mvc.perform(post("/books").headers(mockHttpHeaders()).header(IDEMPOTENCY_KEY, KEY)
+                            .content(body)).andReturn().getResponse();
+                }));
+            }
+            start.countDown();
+
+            location = responses.get(0).get(10, TimeUnit.SECONDS).getHeader("Location");
+            for (Future<MockHttpServletResponse> response : responses) {
+                assertEquals(201, response.get(10, TimeUnit.SECONDS).getStatus());
+                assertEquals(location, response.get().getHeader("Location"));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, bookRepository.findAll().stream().filter(book -> "Retried".equals(book.getTitle())).count());
+        assertEquals(Long.valueOf(getIdByLocation(location)), idempotencyKeyRepository.findById(KEY).get().getBookId());
+    }
+
+    @Test
+    @Order(2)
+    public void whenKeyReusedWithDifferentBodyReturnBadRequest() throws Exception {
+        mvc.perform(post("/books").headers(mockHttpHeaders()).header(IDEMPOTENCY_KEY, KEY)
+                        .content(objectMapper.writeValueAsString(new BookRequestDto("Other", "gateway"))))
+                .andExpect(status().isBadRequest());
+
+        assertTrue(bookRepository.findAll().stream().noneMatch(book -> "Other".equals(book.getTitle())));
+    }
+
+    @Test
+    @Order(3)
+    public void whenNoKeyCreateEachTime() throws Exception {
+        String body = objectMapper.writeValueAsString(new BookRequestDto("Unkeyed", "gateway"));
+
+        String first = mvc.perform(post("/books").headers(mockHttpHeaders()).content(body))
+                .andExpect(status().isCreated()).andReturn().getResponse().getHeader("Location");
+        String second = mvc.perform(post("/books").headers(mockHttpHeaders()).content(body))
+                .andExpect(status().isCreated()).andReturn().getResponse().getHeader("Location");
+
+        assertNotEquals(first, second);
+    }
+}
@@ -0,0 +1,118 @@
+package com.github.silviacristinaa.library.resources.bookIntegration;
+
+import com.github.silviacristinaa.library.repositories.BookRepository;
+import com.github.silviacristinaa.library.resources.integrations.IntegrationTests;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class BookImportResourceIntegrationTest extends IntegrationTests {
+
+    private static final int BOOKS = 1_200;
+
+    private String jobId;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @AfterAll
+    public void tearDown() {
+        bookRepository.deleteAll();
+    }
+
+    @Test
+    @Order(1)
+    public void whenTryImportWithUnsupportedContentTypeReturnBadRequest() throws Exception {
+        mvc.perform(post("/books/imports").headers(mockHttpHeaders()).content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors.[0]", is("Content type must be application/x-ndjson or text/csv")));
+    }
+
+    @Test
+    @Order(2)
+    public void whenImportNdjsonReturnAccepted() throws Exception {
+        String content = IntStream.range(0, BOOKS)
+                .mapToObj(i -> "{\"title\":\"Title " + i + "\",\"author\":\"Author " + i + "\"}")
+                .collect(Collectors.joining("\n")) + "\n{\"title\":\"\",\"author\":\"test\"}\n";
+
+        MvcResult result = mvc.perform(post("/books/imports").contentType("application/x-ndjson").content(content)
+                        .param("batchSize", "250"))
+                .andExpect(request().asyncStarted())
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andReturn();
+        jobId = getIdByLocation(result.getResponse().getHeader("Location"));
+
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("id", is(jobId)))
+                .andExpect(jsonPath("status", is("RUNNING")));
+
+        mvc.perform(get("/books/imports/{id}", jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("status", is("COMPLETED")))
+                .andExpect(jsonPath("linesRead", is(BOOKS + 1)))
+                .andExpect(jsonPath("imported", is(BOOKS)))
+                .andExpect(jsonPath("failed", is(1)))
+                .andExpect(jsonPath("errors[0].line", is(BOOKS + 1)))
+                .andExpect(jsonPath("errors[0].error", is("title must not be blank")));
+
+        assertEquals(BOOKS, bookRepository.count());
+    }
+
+    @Test
+    @Order(3)
+    public void whenImportCsvWithLineBreaksInQuotedFieldsReturnAccepted() throws Exception {
+        MvcResult result = mvc.perform(post("/books/imports").contentType("text/csv")
+                        .content("title,author\n\"Hello,\nWorld\",test\n"))
+                .andExpect(status().isAccepted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isAccepted());
+
+        mvc.perform(get(result.getResponse().getHeader("Location")))
+                .andExpect(jsonPath("status", is("COMPLETED")))
+                .andExpect(jsonPath("linesRead", is(3)))
+                .andExpect(jsonPath("imported", is(1)));
+
+        assertEquals(BOOKS + 1, bookRepository.count());
+    }
+
+    @Test
+    @Order(4)
+    public void whenFindJobByIdReturnSuccess() throws Exception {
+        mvc.perform(get("/books/imports/{id}", jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("id", is(jobId)))
+                .andExpect(jsonPath("imported", is(BOOKS)));
+    }
+
+    @Test
+    @Order(5)
+    public void whenTryFindJobByIdWithIncorrectIdReturnNotFound() throws Exception {
+        mvc.perform(get("/books/imports/{id}", "unknown"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("errors.[0]", is("Import job unknown not found")));
+    }
+
+    @Test
+    @Order(6)
+    public void whenFindAllJobsReturnSuccess() throws Exception {
+        mvc.perform(get("/books/imports"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("length()", is(2)));
+    }
+}
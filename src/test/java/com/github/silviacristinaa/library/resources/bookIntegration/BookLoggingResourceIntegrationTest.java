@@ -0,0 +1,60 @@
+package com.github.silviacristinaa.library.resources.bookIntegration;
+
+import com.github.silviacristinaa.library.dtos.requests.BookRequestDto;
+import com.github.silviacristinaa.library.repositories.BookRepository;
+import com.github.silviacristinaa.library.resources.integrations.IntegrationTests;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(OutputCaptureExtension.class)
+public class BookLoggingResourceIntegrationTest extends IntegrationTests {
+
+    private String bookId;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @AfterAll
+    public void tearDown() {
+        bookRepository.deleteAll();
+    }
+
+    @Test
+    @Order(1)
+    public void whenServeHotPathWriteNothingToStdout(CapturedOutput output) throws Exception {
+        mvc.perform(post("/books").headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(new BookRequestDto("Quiet", "quiet"))))
+                .andExpect(status().isCreated())
+                .andDo(i -> bookId = getIdByLocation(i.getResponse().getHeader("Location")));
+
+        mvc.perform(get("/books/{id}", bookId).headers(mockHttpHeaders()))
+                .andExpect(status().isOk());
+        mvc.perform(get("/books").headers(mockHttpHeaders()))
+                .andExpect(status().isOk());
+        mvc.perform(patch("/books/{id}", bookId).headers(mockHttpHeaders())
+                        .content("{\"status\":\"BORROWED\"}"))
+                .andExpect(status().isNoContent());
+        mvc.perform(get("/books/{id}", 999).headers(mockHttpHeaders()))
+                .andExpect(status().isNotFound());
+
+        assertEquals("", output.getOut());
+    }
+
+    @Test
+    @Order(2)
+    public void whenDataSourceIsProxiedKeepPoolMetrics() throws Exception {
+        mvc.perform(get("/actuator/metrics/hikaricp.connections"))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,97 @@
+package com.github.silviacristinaa.library.resources.bookIntegration;
+
+import com.github.silviacristinaa.library.configs.CacheConfig;
+import com.github.silviacristinaa.library.dtos.requests.BookRequestDto;
+import com.github.silviacristinaa.library.repositories.BookRepository;
+import com.github.silviacristinaa.library.resources.integrations.IntegrationTests;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class BookLookupResourceIntegrationTest extends IntegrationTests {
+
+    private static final long MISSING_ID = 999_999L;
+
+    private Long firstId;
+    private Long secondId;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @AfterAll
+    public void tearDown() {
+        bookRepository.deleteAll();
+    }
+
+    @Test
+    @Order(1)
+    public void whenFindAllByIdReturnItemsInRequestOrder() throws Exception {
+        mvc.perform(post("/books").headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(new BookRequestDto("First", "first"))))
+                .andExpect(status().isCreated())
+                .andDo(i -> firstId = Long.valueOf(getIdByLocation(i.getResponse().getHeader("Location"))));
+        mvc.perform(post("/books").headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(new BookRequestDto("Second", "second"))))
+                .andExpect(status().isCreated())
+                .andDo(i -> secondId = Long.valueOf(getIdByLocation(i.getResponse().getHeader("Location"))));
+
+        mvc.perform(post("/books/bulk/lookup").headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(
+                                Arrays.asList(secondId, MISSING_ID, firstId, null, secondId))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("found", is(3)))
+                .andExpect(jsonPath("missing", is(2)))
+                .andExpect(jsonPath("items[0].status", is(200)))
+                .andExpect(jsonPath("items[0].book.title", is("Second")))
+                .andExpect(jsonPath("items[1].status", is(404)))
+                .andExpect(jsonPath("items[1].error", is("Book " + MISSING_ID + " not found")))
+                .andExpect(jsonPath("items[1].book").doesNotExist())
+                .andExpect(jsonPath("items[2].book.title", is("First")))
+                .andExpect(jsonPath("items[3].status", is(400)))
+                .andExpect(jsonPath("items[3].id").doesNotExist())
+                .andExpect(jsonPath("items[4].book.id", is(secondId.intValue())));
+
+        assertNotNull(cacheManager.getCache(CacheConfig.BOOKS).get(firstId));
+        assertNotNull(cacheManager.getCache(CacheConfig.BOOKS).get(secondId));
+    }
+
+    @Test
+    @Order(2)
+    public void whenBookChangesFindAllByIdReturnNewState() throws Exception {
+        mvc.perform(put("/books/{id}", firstId).headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(new BookRequestDto("First 2", "first"))))
+                .andExpect(status().isNoContent());
+        mvc.perform(delete("/books/{id}", secondId).headers(mockHttpHeaders()))
+                .andExpect(status().isNoContent());
+
+        mvc.perform(post("/books/bulk/lookup").headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(List.of(firstId, secondId))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("items[0].book.title", is("First 2")))
+                .andExpect(jsonPath("items[1].status", is(404)))
+                .andExpect(jsonPath("items[1].book").doesNotExist());
+    }
+
+    @Test
+    @Order(3)
+    public void whenTryFindAllByIdWithoutIdsReturnBadRequest() throws Exception {
+        mvc.perform(post("/books/bulk/lookup").headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(List.of())))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors.[0]", is("Bulk size must be between 1 and 1000")));
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.silviacristinaa.library.resources.bookIntegration;
+
+import com.github.silviacristinaa.library.dtos.requests.BookRequestDto;
+import com.github.silviacristinaa.library.repositories.BookRepository;
+import com.github.silviacristinaa.library.resources.integrations.IntegrationTests;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class BookMetricsResourceIntegrationTest extends IntegrationTests {
+
+    private String bookId;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @AfterAll
+    public void tearDown() {
+        bookRepository.deleteAll();
+    }
+
+    @Test
+    @Order(1)
+    public void whenGetBookRecordRequestPhaseMetrics() throws Exception {
+        mvc.perform(post("/books").headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(new BookRequestDto("Metered", "metered"))))
+                .andExpect(status().isCreated())
+                .andDo(i -> bookId = getIdByLocation(i.getResponse().getHeader("Location")));
+
+        mvc.perform(get("/books/{id}", bookId).headers(mockHttpHeaders()))
+                .andExpect(status().isOk());
+
+        for (String phase : new String[]{"db", "mapping", "serialization"}) {
+            mvc.perform(get("/actuator/metrics/library.request.phase")
+                            .param("tag", "uri:/books/{id}", "method:GET", "phase:" + phase))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("measurements[0].statistic", is("COUNT")))
+                    .andExpect(jsonPath("measurements[0].value", greaterThan(0.0)));
+        }
+
+        for (String phase : new String[]{"db", "serialization"}) {
+            mvc.perform(get("/actuator/metrics/library.request.phase")
+                            .param("tag", "uri:/books/{id}", "method:GET", "phase:" + phase))
+                    .andExpect(jsonPath("measurements[1].statistic", is("TOTAL_TIME")))
+                    .andExpect(jsonPath("measurements[1].value", greaterThan(0.0)));
+        }
+    }
+
+    @Test
+    @Order(2)
+    public void whenCallServiceRecordServiceMethodTimer() throws Exception {
+        mvc.perform(get("/actuator/metrics/library.book.service").param("tag", "method:create"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("measurements[0].value", greaterThan(0.0)));
+    }
+
+    @Test
+    @Order(3)
+    public void whenBookNotFoundCountError() throws Exception {
+        mvc.perform(get("/books/{id}", 999).headers(mockHttpHeaders()))
+                .andExpect(status().isNotFound());
+
+        mvc.perform(get("/actuator/metrics/library.errors")
+                        .param("tag", "exception:NotFoundException", "status:404"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("measurements[0].value", greaterThan(0.0)));
+    }
+
+    @Test
+    @Order(4)
+    public void whenDatabaseUsedExportPoolWaitAndUtilization() throws Exception {
+        mvc.perform(get("/actuator/metrics/hikaricp.connections.acquire"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("measurements[0].statistic", is("COUNT")))
+                .andExpect(jsonPath("measurements[0].value", greaterThan(0.0)));
+
+        mvc.perform(get("/actuator/metrics/hikaricp.connections.pending"))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/actuator/metrics/library.datasource.utilization"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("measurements[0].statistic", is("VALUE")));
+    }
+}
@@ -0,0 +1,136 @@
+package com.github.silviacristinaa.library.resources.bookIntegration;
+
+import com.github.silviacristinaa.library.dtos.requests.BookRequestDto;
+import com.github.silviacristinaa.library.dtos.requests.BookStatusRequestDto;
+import com.github.silviacristinaa.library.enums.BookStatusEnum;
+import com.github.silviacristinaa.library.repositories.BookRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.r2dbc.url=r2dbc:h2:mem:///testdb")
+@ActiveProfiles("reactive")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class BookReactiveResourceIntegrationTest {
+
+    private static final String BOOKS = "/books";
+    private static final String BOOK = BOOKS + "/{id}";
+
+    private String bookId;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @AfterAll
+    public void tearDown() {
+        bookRepository.deleteAll();
+    }
+
+    @Test
+    @Order(1)
+    public void whenCreateReturnCreated() {
+        String location = webTestClient.post().uri(BOOKS).bodyValue(new BookRequestDto("Reactive", "netty"))
+                .exchange()
+                .expectStatus().isCreated()
+                .returnResult(Void.class).getResponseHeaders().getFirst(HttpHeaders.LOCATION);
+
+        assertNotNull(location);
+        bookId = location.substring(location.lastIndexOf('/') + 1);
+    }
+
+    @Test
+    @Order(2)
+    public void whenFindByIdReturnBookWithETag() {
+        webTestClient.get().uri(BOOK, bookId).exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "W/\"0\"")
+                .expectHeader().valueEquals(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Reactive")
+                .jsonPath("$.author").isEqualTo("netty")
+                .jsonPath("$.status").isEqualTo("AVAILABLE")
+                .jsonPath("$.version").doesNotExist();
+
+        webTestClient.get().uri(BOOK, bookId).header(HttpHeaders.IF_NONE_MATCH, "W/\"0\"").exchange()
+                .expectStatus().isNotModified();
+    }
+
+    @Test
+    @Order(3)
+    public void whenFindAllByTitleReturnPage() {
+        webTestClient.get().uri(BOOKS + "?title=Reac&size=5").exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.ETAG)
+                .expectBody()
+                .jsonPath("$.content[0].title").isEqualTo("Reactive")
+                .jsonPath("$.totalElements").isEqualTo(1);
+    }
+
+    @Test
+    @Order(4)
+    public void whenCreateWithInvalidBodyReturnBadRequest() {
+        webTestClient.post().uri(BOOKS).bodyValue(new BookRequestDto("", "netty")).exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.message").isEqualTo("Arguments not valid");
+    }
+
+    @Test
+    @Order(5)
+    public void whenBorrowTwiceReturnConflict() {
+        webTestClient.post().uri(BOOK + "/borrow", bookId).exchange().expectStatus().isNoContent();
+
+        webTestClient.post().uri(BOOK + "/borrow", bookId).exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody().jsonPath("$.errors[0]").isEqualTo("Book " + bookId + " is already borrowed");
+    }
+
+    @Test
+    @Order(6)
+    public void whenDeleteBorrowedReturnBadRequest() {
+        webTestClient.delete().uri(BOOK, bookId).exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.errors[0]").isEqualTo("Cannot delete a book with borrowed status");
+    }
+
+    @Test
+    @Order(7)
+    public void whenReturnAndUpdateReturnNoContent() {
+        webTestClient.post().uri(BOOK + "/return", bookId).exchange().expectStatus().isNoContent();
+        webTestClient.patch().uri(BOOK, bookId).bodyValue(new BookStatusRequestDto(BookStatusEnum.AVAILABLE))
+                .exchange().expectStatus().isNoContent();
+        webTestClient.put().uri(BOOK, bookId).bodyValue(new BookRequestDto("Reactive 2", "netty")).exchange()
+                .expectStatus().isNoContent();
+
+        webTestClient.get().uri(BOOK, bookId).exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "W/\"3\"")
+                .expectBody().jsonPath("$.title").isEqualTo("Reactive 2");
+    }
+
+    @Test
+    @Order(8)
+    public void whenDeleteReturnNoContentThenNotFound() {
+        webTestClient.delete().uri(BOOK, bookId).exchange().expectStatus().isNoContent();
+
+        webTestClient.get().uri(BOOK, bookId).exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Not found")
+                .jsonPath("$.errors[0]").isEqualTo("Book " + bookId + " not found");
+    }
+}
@@ -103,6 +103,10 @@ public class BookResourceIntegrationTest extends IntegrationTests {
         assertEquals(book.get().getTitle(), TITLE);
         assertEquals(book.get().getAuthor(), AUTHOR);
         assertEquals(book.get().getStatus(), BookStatusEnum.BORROWED);
+
+        mvc.perform(get("/books/{id}", bookId).headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("status", is("BORROWED")));
     }
 
     @Test
@@ -140,6 +144,11 @@ public class BookResourceIntegrationTest extends IntegrationTests {
         assertEquals(book.get().getTitle(), "Updated Test");
         assertEquals(book.get().getAuthor(), "updated test");
         assertEquals(book.get().getStatus(), BookStatusEnum.BORROWED);
+
+        mvc.perform(get("/books/{id}", bookId).headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("title", is("Updated Test")))
+                .andExpect(jsonPath("author", is("updated test")));
     }
 
     @Test
@@ -172,5 +181,16 @@ public class BookResourceIntegrationTest extends IntegrationTests {
 
         Optional<Book> deletedBook = bookRepository.findById(Long.valueOf(bookId));
         assertFalse(deletedBook.isPresent());
+
+        mvc.perform(get("/books/{id}", bookId).headers(mockHttpHeaders()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Order(14)
+    public void whenGetCacheMetricsReturnSuccess() throws Exception {
+        mvc.perform(get("/actuator/metrics/cache.gets").param("tag", "cache:books"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("name", is("cache.gets")));
     }
 }
@@ -0,0 +1,93 @@
+package com.github.silviacristinaa.library.resources.bookIntegration;
+
+import com.github.silviacristinaa.library.dtos.requests.BookRequestDto;
+import com.github.silviacristinaa.library.repositories.BookRepository;
+import com.github.silviacristinaa.library.resources.integrations.IntegrationTests;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class BookSearchResourceIntegrationTest extends IntegrationTests {
+
+    private String bookId;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @AfterAll
+    public void tearDown() throws Exception {
+        bookRepository.deleteAll();
+        mvc.perform(post("/books/search/index").headers(mockHttpHeaders()));
+    }
+
+    @Test
+    @Order(1)
+    public void whenTrySearchWithoutQueryReturnBadRequest() throws Exception {
+        mvc.perform(get("/books/search").headers(mockHttpHeaders()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors.[0]", is("Query must not be blank")));
+    }
+
+    @Test
+    @Order(2)
+    public void whenSearchCreatedBookReturnIt() throws Exception {
+        String location = mvc.perform(post("/books").headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(
+                                new BookRequestDto("Searchable Dune", "Frank Herbert"))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getHeader("Location");
+        bookId = location.substring(location.lastIndexOf('/') + 1);
+
+        mvc.perform(get("/books/search").param("q", "dun herb").headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(1)))
+                .andExpect(jsonPath("[0].title", is("Searchable Dune")))
+                .andExpect(jsonPath("[0].status", is("AVAILABLE")));
+    }
+
+    @Test
+    @Order(3)
+    public void whenSearchUpdatedBookReturnNewTitle() throws Exception {
+        mvc.perform(put("/books/{id}", bookId).headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(
+                                new BookRequestDto("Searchable Messiah", "Frank Herbert"))))
+                .andExpect(status().isNoContent());
+
+        mvc.perform(get("/books/search").param("q", "dune").headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(0)));
+
+        mvc.perform(get("/books/search").param("q", "messiah").headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("[0].title", is("Searchable Messiah")));
+    }
+
+    @Test
+    @Order(4)
+    public void whenRebuildIndexReturnIndexedCount() throws Exception {
+        mvc.perform(post("/books/search/index").headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("indexed", is((int) bookRepository.count())));
+
+        mvc.perform(get("/books/search").param("q", "messiah").headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(1)));
+    }
+
+    @Test
+    @Order(5)
+    public void whenSearchDeletedBookReturnNoMatch() throws Exception {
+        mvc.perform(delete("/books/{id}", bookId).headers(mockHttpHeaders()))
+                .andExpect(status().isNoContent());
+
+        mvc.perform(get("/books/search").param("q", "messiah").headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(0)));
+    }
+}
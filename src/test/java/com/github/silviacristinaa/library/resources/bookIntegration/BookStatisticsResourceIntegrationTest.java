@@ -0,0 +1,104 @@
+package com.github.silviacristinaa.library.resources.bookIntegration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.silviacristinaa.library.dtos.requests.BookRequestDto;
+import com.github.silviacristinaa.library.entities.Book;
+import com.github.silviacristinaa.library.enums.BookStatusEnum;
+import com.github.silviacristinaa.library.repositories.BookRepository;
+import com.github.silviacristinaa.library.resources.integrations.IntegrationTests;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class BookStatisticsResourceIntegrationTest extends IntegrationTests {
+
+    private String bookId;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @AfterAll
+    public void tearDown() throws Exception {
+        bookRepository.deleteAll();
+        mvc.perform(post("/books/statistics/reconcile").headers(mockHttpHeaders()));
+    }
+
+    @Test
+    @Order(1)
+    public void whenReconcileReturnDatabaseCounts() throws Exception {
+        bookRepository.saveAll(List.of(
+                new Book(null, "Available", "author", BookStatusEnum.AVAILABLE),
+                new Book(null, "Borrowed", "author", BookStatusEnum.BORROWED)));
+
+        mvc.perform(post("/books/statistics/reconcile").headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("total", is((int) bookRepository.count())))
+                .andExpect(jsonPath("reconciledAt", notNullValue()));
+    }
+
+    @Test
+    @Order(2)
+    public void whenBooksChangeReturnUpdatedCountsWithoutReconcile() throws Exception {
+        JsonNode before = statistics();
+
+        mvc.perform(post("/books").headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(new BookRequestDto("Counted", "counted"))))
+                .andExpect(status().isCreated())
+                .andDo(i -> bookId = getIdByLocation(i.getResponse().getHeader("Location")));
+        assertCounts(before, 1, 0);
+
+        mvc.perform(post("/books/{id}/borrow", bookId).headers(mockHttpHeaders()))
+                .andExpect(status().isNoContent());
+        assertCounts(before, 0, 1);
+
+        mvc.perform(post("/books/{id}/borrow", bookId).headers(mockHttpHeaders()))
+                .andExpect(status().isConflict());
+        assertCounts(before, 0, 1);
+
+        mvc.perform(patch("/books/{id}", bookId).headers(mockHttpHeaders())
+                        .content("{\"status\":\"AVAILABLE\"}"))
+                .andExpect(status().isNoContent());
+        assertCounts(before, 1, 0);
+
+        mvc.perform(delete("/books/{id}", bookId).headers(mockHttpHeaders()))
+                .andExpect(status().isNoContent());
+        assertCounts(before, 0, 0);
+    }
+
+    @Test
+    @Order(3)
+    public void whenReconcileAfterIncrementalUpdatesReturnSameCounts() throws Exception {
+        JsonNode incremental = statistics();
+
+        String reconciled = mvc.perform(post("/books/statistics/reconcile").headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertEquals(incremental.get("byStatus"), objectMapper.readTree(reconciled).get("byStatus"));
+    }
+
+    private void assertCounts(JsonNode before, int availableDelta, int borrowedDelta) throws Exception {
+        JsonNode after = statistics();
+
+        assertEquals(before.get("byStatus").get("AVAILABLE").asLong() + availableDelta,
+                after.get("byStatus").get("AVAILABLE").asLong());
+        assertEquals(before.get("byStatus").get("BORROWED").asLong() + borrowedDelta,
+                after.get("byStatus").get("BORROWED").asLong());
+    }
+
+    private JsonNode statistics() throws Exception {
+        return objectMapper.readTree(mvc.perform(get("/books/statistics").headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+    }
+}
@@ -0,0 +1,100 @@
+package com.github.silviacristinaa.library.resources.bookIntegration;
+
+import com.github.silviacristinaa.library.dtos.requests.BookRequestDto;
+import com.github.silviacristinaa.library.enums.BookStatusEnum;
+import com.github.silviacristinaa.library.repositories.BookRepository;
+import com.github.silviacristinaa.library.resources.integrations.IntegrationTests;
+import com.github.silviacristinaa.library.services.BookStatusWriteBehindService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@TestPropertySource(properties = {
+        "library.write-behind.enabled=true",
+        "library.write-behind.log-path=target/write-behind-it/book-status.log",
+        "library.write-behind.flush-interval=1h"})
+public class BookWriteBehindResourceIntegrationTest extends IntegrationTests {
+
+    private String bookId;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookStatusWriteBehindService bookStatusWriteBehindService;
+
+    @AfterAll
+    public void tearDown() throws Exception {
+        bookStatusWriteBehindService.flush();
+        bookRepository.deleteAll();
+    }
+
+    @Test
+    @Order(1)
+    public void whenPatchStatusReturnItBeforeItIsWritten() throws Exception {
+        mvc.perform(post("/books").headers(mockHttpHeaders())
+                        .content(objectMapper.writeValueAsString(new BookRequestDto("Kiosk", "kiosk"))))
+                .andExpect(status().isCreated())
+                .andDo(i -> bookId = getIdByLocation(i.getResponse().getHeader("Location")));
+        mvc.perform(get("/books/{id}", bookId).headers(mockHttpHeaders()))
+                .andExpect(status().isOk());
+
+        mvc.perform(patch("/books/{id}", bookId).headers(mockHttpHeaders()).content("{\"status\":\"BORROWED\"}"))
+                .andExpect(status().isNoContent());
+        mvc.perform(patch("/books/{id}", bookId).headers(mockHttpHeaders()).content("{\"status\":\"AVAILABLE\"}"))
+                .andExpect(status().isNoContent());
+        mvc.perform(patch("/books/{id}", bookId).headers(mockHttpHeaders()).content("{\"status\":\"BORROWED\"}"))
+                .andExpect(status().isNoContent());
+
+        mvc.perform(get("/books/{id}", bookId).headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("status", is("BORROWED")))
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+        assertEquals(BookStatusEnum.AVAILABLE, bookRepository.findById(Long.valueOf(bookId)).get().getStatus());
+    }
+
+    @Test
+    @Order(2)
+    public void whenFlushWriteOnlyLatestStatus() throws Exception {
+        Long version = bookRepository.findById(Long.valueOf(bookId)).get().getVersion();
+
+        assertEquals(1, bookStatusWriteBehindService.flush());
+
+        assertEquals(BookStatusEnum.BORROWED, bookRepository.findById(Long.valueOf(bookId)).get().getStatus());
+        assertEquals(version + 1, bookRepository.findById(Long.valueOf(bookId)).get().getVersion());
+        mvc.perform(get("/books/{id}", bookId).headers(mockHttpHeaders()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("status", is("BORROWED")))
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"" + (version + 1) + "\""));
+    }
+
+    @Test
+    @Order(3)
+    public void whenTransitionAfterPatchSeePendingStatus() throws Exception {
+        mvc.perform(patch("/books/{id}", bookId).headers(mockHttpHeaders()).content("{\"status\":\"AVAILABLE\"}"))
+                .andExpect(status().isNoContent());
+
+        mvc.perform(post("/books/{id}/borrow", bookId).headers(mockHttpHeaders()))
+                .andExpect(status().isNoContent());
+
+        assertEquals(BookStatusEnum.BORROWED, bookRepository.findById(Long.valueOf(bookId)).get().getStatus());
+        mvc.perform(get("/books/{id}", bookId).headers(mockHttpHeaders()))
+                .andExpect(jsonPath("status", is("BORROWED")))
+                .andExpect(header().exists(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @Order(4)
+    public void whenPatchUnknownBookReturnNotFound() throws Exception {
+        mvc.perform(patch("/books/{id}", 999).headers(mockHttpHeaders()).content("{\"status\":\"BORROWED\"}"))
+                .andExpect(status().isNotFound());
+    }
+}
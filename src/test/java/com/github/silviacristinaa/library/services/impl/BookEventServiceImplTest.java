@@ -0,0 +1,154 @@
+package com.github.silviacristinaa.library.services.impl;
+
+import com.github.silviacristinaa.library.dtos.responses.BookEventResponseDto;
+import com.github.silviacristinaa.library.entities.Book;
+import com.github.silviacristinaa.library.entities.BookEvent;
+import com.github.silviacristinaa.library.enums.BookEventTypeEnum;
+import com.github.silviacristinaa.library.enums.BookStatusEnum;
+import com.github.silviacristinaa.library.exceptions.BadRequestException;
+import com.github.silviacristinaa.library.exceptions.ExpectedExceptionFactory;
+import com.github.silviacristinaa.library.repositories.BookEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+public class BookEventServiceImplTest {
+
+    private static final long ID = 1L;
+    private static final int BATCH_SIZE = 2;
+
+    private BookEventServiceImpl bookEventServiceImpl;
+
+    @Mock
+    private BookEventRepository bookEventRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        bookEventServiceImpl = new BookEventServiceImpl(bookEventRepository, transactionManager,
+                new ExpectedExceptionFactory(false), BATCH_SIZE, Duration.ofDays(7), Duration.ofMinutes(1), 100);
+        when(bookEventRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookEventServiceImpl.close();
+    }
+
+    @Test
+    void whenRelayNumberEventsAfterLastPositionInOrder() {
+        Book book = new Book(ID, "Test", "test", BookStatusEnum.AVAILABLE);
+        book.setVersion(0L);
+        BookEvent created = BookEvent.created(book);
+        BookEvent borrowed = BookEvent.statusChanged(ID, 1L, BookStatusEnum.BORROWED);
+        BookEvent deleted = BookEvent.deleted(ID);
+        when(bookEventRepository.findByStreamPositionIsNullOrderById(any()))
+                .thenReturn(List.of(created, borrowed), List.of(deleted));
+        when(bookEventRepository.findMaxStreamPosition()).thenReturn(10L, 12L);
+
+        assertEquals(3, bookEventServiceImpl.relay());
+
+        assertEquals(11L, created.getStreamPosition());
+        assertEquals(12L, borrowed.getStreamPosition());
+        assertEquals(13L, deleted.getStreamPosition());
+        verify(bookEventRepository, times(2)).findByStreamPositionIsNullOrderById(Limit.of(BATCH_SIZE));
+    }
+
+    @Test
+    void whenRelayBatchOutOfVersionOrderNumberEachBookByVersion() {
+        BookEvent returned = BookEvent.statusChanged(ID, 2L, BookStatusEnum.AVAILABLE);
+        BookEvent other = BookEvent.statusChanged(2L, 5L, BookStatusEnum.BORROWED);
+        BookEvent deleted = BookEvent.deleted(ID);
+        BookEvent borrowed = BookEvent.statusChanged(ID, 1L, BookStatusEnum.BORROWED);
+        when(bookEventRepository.findByStreamPositionIsNullOrderById(any()))
+                .thenReturn(List.of(returned, other, deleted, borrowed));
+        when(bookEventRepository.findMaxStreamPosition()).thenReturn(0L);
+
+        bookEventServiceImpl.close();
+        bookEventServiceImpl = new BookEventServiceImpl(bookEventRepository, transactionManager,
+                new ExpectedExceptionFactory(false), 10, Duration.ofDays(7), Duration.ofMinutes(1), 100);
+        assertEquals(4, bookEventServiceImpl.relay());
+
+        assertEquals(1L, borrowed.getStreamPosition());
+        assertEquals(2L, other.getStreamPosition());
+        assertEquals(3L, returned.getStreamPosition());
+        assertEquals(4L, deleted.getStreamPosition());
+    }
+
+    @Test
+    void whenNothingToRelayReturnZeroWithoutWriting() {
+        when(bookEventRepository.findByStreamPositionIsNullOrderById(any())).thenReturn(List.of());
+
+        assertEquals(0, bookEventServiceImpl.relay());
+
+        verify(bookEventRepository, never()).findMaxStreamPosition();
+        verify(bookEventRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void whenRecordEmptyListDoNotWrite() {
+        bookEventServiceImpl.record(List.of());
+
+        verify(bookEventRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void whenFindAfterReturnEventsFromPosition() throws BadRequestException {
+        BookEvent event = BookEvent.statusChanged(ID, 1L, BookStatusEnum.BORROWED);
+        event.setStreamPosition(6L);
+        when(bookEventRepository.findByStreamPositionGreaterThanOrderByStreamPosition(anyLong(), any()))
+                .thenReturn(List.of(event));
+
+        List<BookEventResponseDto> response = bookEventServiceImpl.findAfter(5, 10);
+
+        assertEquals(1, response.size());
+        assertEquals(6L, response.get(0).getPosition());
+        assertEquals(ID, response.get(0).getBookId());
+        assertEquals(1L, response.get(0).getBookVersion());
+        assertEquals(BookEventTypeEnum.STATUS_CHANGED, response.get(0).getType());
+        assertEquals(BookStatusEnum.BORROWED, response.get(0).getStatus());
+        assertNull(response.get(0).getTitle());
+        verify(bookEventRepository, times(1)).findByStreamPositionGreaterThanOrderByStreamPosition(5L, Limit.of(10));
+    }
+
+    @Test
+    void whenTryFindAfterWithInvalidLimitReturnBadRequestException() {
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> bookEventServiceImpl.findAfter(0, 0));
+
+        assertEquals("Limit must be between 1 and 1000", exception.getMessage());
+    }
+
+    @Test
+    void whenTryFindAfterNegativePositionReturnBadRequestException() {
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> bookEventServiceImpl.findAfter(-1, 10));
+
+        assertEquals("Position must not be negative", exception.getMessage());
+    }
+
+    @Test
+    void whenPurgeDeleteRelayedEventsOlderThanRetention() {
+        when(bookEventRepository.deleteRelayedByOccurredAtBefore(any())).thenReturn(4);
+
+        assertEquals(4, bookEventServiceImpl.purge());
+
+        verify(bookEventRepository, times(1)).deleteRelayedByOccurredAtBefore(
+                argThat(before -> before.isBefore(Instant.now().minus(Duration.ofDays(6)))));
+    }
+}
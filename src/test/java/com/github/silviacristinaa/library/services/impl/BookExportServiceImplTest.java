@@ -0,0 +1,88 @@
+package com.github.silviacristinaa.library.services.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.silviacristinaa.library.dtos.responses.BookResponseDto;
+import com.github.silviacristinaa.library.enums.BookStatusEnum;
+import com.github.silviacristinaa.library.enums.FileFormatEnum;
+import com.github.silviacristinaa.library.repositories.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+public class BookExportServiceImplTest {
+
+    private static final int FETCH_SIZE = 500;
+
+    private BookResponseDto book;
+    private BookResponseDto bookWithSpecialCharacters;
+
+    @InjectMocks
+    private BookExportServiceImpl bookExportServiceImpl;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(bookExportServiceImpl, "fetchSize", FETCH_SIZE);
+
+        book = new BookResponseDto(1L, "Test", "test", BookStatusEnum.AVAILABLE, 0L, Instant.EPOCH);
+        bookWithSpecialCharacters = new BookResponseDto(2L, "Hello, \"World\"", "test", BookStatusEnum.BORROWED,
+                1L, Instant.EPOCH);
+    }
+
+    @Test
+    void whenExportNdjsonReturnOneObjectPerLine() throws IOException {
+        when(bookRepository.streamAll(anyInt())).thenReturn(Stream.of(book, bookWithSpecialCharacters));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        bookExportServiceImpl.export(FileFormatEnum.NDJSON, outputStream);
+
+        assertEquals("{\"id\":1,\"title\":\"Test\",\"author\":\"test\",\"status\":\"AVAILABLE\"}\n"
+                        + "{\"id\":2,\"title\":\"Hello, \\\"World\\\"\",\"author\":\"test\",\"status\":\"BORROWED\"}\n",
+                outputStream.toString(StandardCharsets.UTF_8));
+
+        verify(bookRepository, times(1)).streamAll(FETCH_SIZE);
+    }
+
+    @Test
+    void whenExportCsvReturnHeaderAndEscapedRows() throws IOException {
+        when(bookRepository.streamAll(anyInt())).thenReturn(Stream.of(book, bookWithSpecialCharacters));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        bookExportServiceImpl.export(FileFormatEnum.CSV, outputStream);
+
+        assertEquals("id,title,author,status\n"
+                        + "1,Test,test,AVAILABLE\n"
+                        + "2,\"Hello, \"\"World\"\"\",test,BORROWED\n",
+                outputStream.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void whenExportEmptyCatalogueReturnOnlyCsvHeader() throws IOException {
+        when(bookRepository.streamAll(anyInt())).thenReturn(Stream.empty());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        bookExportServiceImpl.export(FileFormatEnum.CSV, outputStream);
+
+        assertEquals("id,title,author,status\n", outputStream.toString(StandardCharsets.UTF_8));
+    }
+}
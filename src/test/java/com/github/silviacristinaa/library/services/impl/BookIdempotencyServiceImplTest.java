@@ -0,0 +1,144 @@
+package com.github.silviacristinaa.library.services.impl;
+
+import com.github.silviacristinaa.library.dtos.requests.BookRequestDto;
+import com.github.silviacristinaa.library.entities.Book;
+import com.github.silviacristinaa.library.entities.IdempotencyKey;
+import com.github.silviacristinaa.library.enums.BookStatusEnum;
+import com.github.silviacristinaa.library.exceptions.BadRequestException;
+import com.github.silviacristinaa.library.exceptions.ExpectedExceptionFactory;
+import com.github.silviacristinaa.library.repositories.IdempotencyKeyRepository;
+import com.github.silviacristinaa.library.services.BookService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+public class BookIdempotencyServiceImplTest {
+
+    private static final String KEY = "6b1f2c4e";
+    private static final long ID = 1L;
+    private static final int THREADS = 16;
+
+    private BookRequestDto bookRequestDto;
+    private BookIdempotencyServiceImpl bookIdempotencyServiceImpl;
+
+    @Mock
+    private BookService bookService;
+
+    @Mock
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        bookRequestDto = new BookRequestDto("Test", "test");
+        bookIdempotencyServiceImpl = service(false);
+    }
+
+    @Test
+    void whenConcurrentRequestsShareKeyCreateOnce() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        when(bookService.create(any())).thenAnswer(invocation -> {
+            TimeUnit.MILLISECONDS.sleep(50);
+            return new Book(ID, "Test", "test", BookStatusEnum.AVAILABLE);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Long>> results = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return bookIdempotencyServiceImpl.create(KEY, bookRequestDto);
+                }));
+            }
+            start.countDown();
+
+            for (Future<Long> result : results) {
+                assertEquals(ID, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(bookService, times(1)).create(any());
+    }
+
+    @Test
+    void whenKeyReusedWithDifferentBodyReturnBadRequestException() throws BadRequestException {
+        when(bookService.create(any())).thenReturn(new Book(ID, "Test", "test", BookStatusEnum.AVAILABLE));
+        bookIdempotencyServiceImpl.create(KEY, bookRequestDto);
+
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> bookIdempotencyServiceImpl.create(KEY, new BookRequestDto("Other", "test")));
+
+        assertEquals(String.format("Idempotency-Key %s was already used with a different body", KEY),
+                exception.getMessage());
+        verify(bookService, times(1)).create(any());
+    }
+
+    @Test
+    void whenFirstRequestFailsNextOneCreates() throws BadRequestException {
+        when(bookService.create(any()))
+                .thenThrow(new IllegalStateException("failure"))
+                .thenReturn(new Book(ID, "Test", "test", BookStatusEnum.AVAILABLE));
+
+        assertThrows(IllegalStateException.class, () -> bookIdempotencyServiceImpl.create(KEY, bookRequestDto));
+
+        assertEquals(ID, bookIdempotencyServiceImpl.create(KEY, bookRequestDto));
+    }
+
+    @Test
+    void whenKeyBlankReturnBadRequestException() {
+        assertThrows(BadRequestException.class, () -> bookIdempotencyServiceImpl.create(" ", bookRequestDto));
+
+        verify(bookService, never()).create(any());
+    }
+
+    @Test
+    void whenPersistentKeyStoredReturnItWithoutCreating() throws BadRequestException {
+        bookIdempotencyServiceImpl = service(true);
+        when(bookService.create(any())).thenReturn(new Book(ID, "Test", "test", BookStatusEnum.AVAILABLE));
+        bookIdempotencyServiceImpl.create(KEY, bookRequestDto);
+
+        // A fresh instance has an empty cache, as after a restart
+        IdempotencyKey stored = new IdempotencyKey(KEY, ID, fingerprintOf(), Instant.now());
+        when(idempotencyKeyRepository.findById(KEY)).thenReturn(Optional.of(stored));
+        bookIdempotencyServiceImpl = service(true);
+
+        assertEquals(ID, bookIdempotencyServiceImpl.create(KEY, bookRequestDto));
+        verify(bookService, times(1)).create(any());
+        verify(idempotencyKeyRepository, times(1)).save(any());
+    }
+
+    private String fingerprintOf() {
+        return DigestUtils.md5DigestAsHex(
+                (bookRequestDto.getTitle() + '\0' + bookRequestDto.getAuthor()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private BookIdempotencyServiceImpl service(boolean persistent) {
+        return new BookIdempotencyServiceImpl(bookService, idempotencyKeyRepository, transactionManager,
+                new ExpectedExceptionFactory(false), Duration.ofHours(1), 1000, persistent);
+    }
+}
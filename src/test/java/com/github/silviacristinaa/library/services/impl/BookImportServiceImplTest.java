@@ -0,0 +1,181 @@
+package com.github.silviacristinaa.library.services.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.silviacristinaa.library.dtos.requests.BookRequestDto;
+import com.github.silviacristinaa.library.dtos.responses.BulkItemResponseDto;
+import com.github.silviacristinaa.library.dtos.responses.BulkResponseDto;
+import com.github.silviacristinaa.library.dtos.responses.ImportJobResponseDto;
+import com.github.silviacristinaa.library.enums.FileFormatEnum;
+import com.github.silviacristinaa.library.enums.ImportJobStatusEnum;
+import com.github.silviacristinaa.library.exceptions.BadRequestException;
+import com.github.silviacristinaa.library.exceptions.ExpectedExceptionFactory;
+import com.github.silviacristinaa.library.exceptions.NotFoundException;
+import com.github.silviacristinaa.library.services.BookService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+public class BookImportServiceImplTest {
+
+    private static final String IMPORT_JOB_NOT_FOUND = "Import job %s not found";
+    private static final String INVALID_BATCH_SIZE = "Batch size must be between 1 and 1000";
+    private static final String INVALID_CSV_HEADER = "CSV header must contain title and author columns";
+
+    private static final int BATCH_SIZE = 2;
+
+    private BookImportServiceImpl bookImportServiceImpl;
+
+    @Mock
+    private BookService bookService;
+
+    @BeforeEach
+    void setUp() throws BadRequestException {
+        bookImportServiceImpl = new BookImportServiceImpl(bookService, new ObjectMapper(),
+                new ExpectedExceptionFactory(false), BATCH_SIZE);
+
+        when(bookService.createAll(anyList())).thenAnswer(invocation -> {
+            List<BookRequestDto> books = invocation.getArgument(0);
+            return new BulkResponseDto(books.size(), 0, IntStream.range(0, books.size())
+                    .mapToObj(i -> new BulkItemResponseDto(i, (long) i, 201, null)).toList());
+        });
+    }
+
+    @Test
+    void whenImportNdjsonReturnCompletedJob() throws BadRequestException {
+        ImportJobResponseDto response = importBooks(toInputStream("""
+                {"title":"Test 1","author":"test"}
+
+                {"title":"Test 2","author":"test"}
+                {"title":"Test 3","author":"test"}
+                """), FileFormatEnum.NDJSON, null);
+
+        assertEquals(ImportJobStatusEnum.COMPLETED, response.getStatus());
+        assertEquals(4, response.getLinesRead());
+        assertEquals(3, response.getImported());
+        assertEquals(0, response.getFailed());
+        assertNotNull(response.getFinishedAt());
+
+        ArgumentCaptor<List<BookRequestDto>> batches = ArgumentCaptor.captor();
+        verify(bookService, times(2)).createAll(batches.capture());
+        assertEquals(List.of(2, 1), batches.getAllValues().stream().map(List::size).toList());
+    }
+
+    @Test
+    void whenImportNdjsonWithInvalidLinesReturnLineErrors() throws BadRequestException {
+        when(bookService.createAll(anyList())).thenReturn(new BulkResponseDto(0, 1,
+                List.of(new BulkItemResponseDto(0, null, 400, "title must not be blank"))));
+
+        ImportJobResponseDto response = importBooks(toInputStream("""
+                not json
+                {"author":"test"}
+                """), FileFormatEnum.NDJSON, 10);
+
+        assertEquals(ImportJobStatusEnum.COMPLETED, response.getStatus());
+        assertEquals(0, response.getImported());
+        assertEquals(2, response.getFailed());
+        assertEquals(1, response.getErrors().get(0).getLine());
+        assertEquals(2, response.getErrors().get(1).getLine());
+        assertEquals("title must not be blank", response.getErrors().get(1).getError());
+    }
+
+    @Test
+    void whenImportCsvReturnCompletedJob() throws BadRequestException {
+        ImportJobResponseDto response = importBooks(toInputStream("""
+                author,title
+                test,"Hello, ""World\"""
+                test,"unterminated
+                """), FileFormatEnum.CSV, null);
+
+        assertEquals(3, response.getLinesRead());
+        assertEquals(1, response.getImported());
+        assertEquals(1, response.getFailed());
+        assertEquals(3, response.getErrors().get(0).getLine());
+
+        ArgumentCaptor<List<BookRequestDto>> batch = ArgumentCaptor.captor();
+        verify(bookService).createAll(batch.capture());
+        assertEquals("Hello, \"World\"", batch.getValue().get(0).getTitle());
+        assertEquals("test", batch.getValue().get(0).getAuthor());
+    }
+
+    @Test
+    void whenImportCsvWithLineBreaksInQuotedFieldsReturnCompletedJob() throws BadRequestException {
+        ImportJobResponseDto response = importBooks(toInputStream(
+                "title,author\r\n\"Multi\nline, \"\"quoted\"\"\",test\r\nPlain,test"), FileFormatEnum.CSV, null);
+
+        assertEquals(ImportJobStatusEnum.COMPLETED, response.getStatus());
+        assertEquals(4, response.getLinesRead());
+        assertEquals(2, response.getImported());
+        assertEquals(0, response.getFailed());
+
+        ArgumentCaptor<List<BookRequestDto>> batch = ArgumentCaptor.captor();
+        verify(bookService).createAll(batch.capture());
+        assertEquals("Multi\nline, \"quoted\"", batch.getValue().get(0).getTitle());
+        assertEquals("Plain", batch.getValue().get(1).getTitle());
+    }
+
+    @Test
+    void whenTryImportCsvWithInvalidHeaderReturnFailedJob() throws BadRequestException {
+        ImportJobResponseDto response = importBooks(toInputStream("name,author\n"), FileFormatEnum.CSV, null);
+
+        assertEquals(ImportJobStatusEnum.FAILED, response.getStatus());
+        assertEquals(INVALID_CSV_HEADER, response.getMessage());
+        verifyNoInteractions(bookService);
+    }
+
+    @Test
+    void whenTryImportWithInvalidBatchSizeReturnBadRequestException() {
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> bookImportServiceImpl.startImport(FileFormatEnum.NDJSON, 1001));
+
+        assertEquals(INVALID_BATCH_SIZE, exception.getMessage());
+    }
+
+    @Test
+    void whenStartImportReturnRunningJob() throws BadRequestException, NotFoundException {
+        ImportJobResponseDto job = bookImportServiceImpl.startImport(FileFormatEnum.NDJSON, null);
+
+        assertEquals(ImportJobStatusEnum.RUNNING, job.getStatus());
+        assertEquals(ImportJobStatusEnum.RUNNING, bookImportServiceImpl.findJobById(job.getId()).getStatus());
+    }
+
+    @Test
+    void whenFindJobByIdReturnJob() throws BadRequestException, NotFoundException {
+        ImportJobResponseDto job = importBooks(toInputStream(""), FileFormatEnum.NDJSON, null);
+
+        ImportJobResponseDto response = bookImportServiceImpl.findJobById(job.getId());
+
+        assertEquals(job.getId(), response.getId());
+        assertEquals(ImportJobStatusEnum.COMPLETED, response.getStatus());
+    }
+
+    @Test
+    void whenTryFindJobByIdReturnNotFoundException() {
+        NotFoundException exception = assertThrows(NotFoundException.class,
+                () -> bookImportServiceImpl.findJobById("unknown"));
+
+        assertEquals(String.format(IMPORT_JOB_NOT_FOUND, "unknown"), exception.getMessage());
+    }
+
+    private ImportJobResponseDto importBooks(InputStream inputStream, FileFormatEnum format, Integer batchSize)
+            throws BadRequestException {
+        ImportJobResponseDto job = bookImportServiceImpl.startImport(format, batchSize);
+        return bookImportServiceImpl.runImport(job.getId(), inputStream);
+    }
+
+    private static InputStream toInputStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
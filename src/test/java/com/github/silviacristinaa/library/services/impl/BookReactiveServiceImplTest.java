@@ -0,0 +1,159 @@
+package com.github.silviacristinaa.library.services.impl;
+
+import com.github.silviacristinaa.library.dtos.requests.BookRequestDto;
+import com.github.silviacristinaa.library.dtos.requests.BookStatusRequestDto;
+import com.github.silviacristinaa.library.dtos.responses.BookResponseDto;
+import com.github.silviacristinaa.library.entities.Book;
+import com.github.silviacristinaa.library.entities.BookRecord;
+import com.github.silviacristinaa.library.enums.BookStatusEnum;
+import com.github.silviacristinaa.library.exceptions.BadRequestException;
+import com.github.silviacristinaa.library.exceptions.ConflictException;
+import com.github.silviacristinaa.library.exceptions.ExpectedExceptionFactory;
+import com.github.silviacristinaa.library.exceptions.NotFoundException;
+import com.github.silviacristinaa.library.mappers.BookMapper;
+import com.github.silviacristinaa.library.repositories.BookReactiveRepository;
+import com.github.silviacristinaa.library.services.BookSearchService;
+import com.github.silviacristinaa.library.services.BookStatisticsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+public class BookReactiveServiceImplTest {
+
+    private static final String BOOK_NOT_FOUND = "Book %s not found";
+    private static final String BOOK_ALREADY_BORROWED = "Book %s is already borrowed";
+    private static final String CANNOT_DELETE_BOOK_WITH_BORROWED_STATUS = "Cannot delete a book with borrowed status";
+
+    private static final long ID = 1L;
+    private static final String TITLE = "Test";
+    private static final String AUTHOR = "test";
+
+    private BookRecord bookRecord;
+
+    @InjectMocks
+    private BookReactiveServiceImpl bookReactiveServiceImpl;
+
+    @Mock
+    private BookReactiveRepository bookReactiveRepository;
+
+    @Mock
+    private BookMapper bookMapper;
+
+    @Mock
+    private BookSearchService bookSearchService;
+
+    @Mock
+    private BookStatisticsService bookStatisticsService;
+
+    @Spy
+    private ExpectedExceptionFactory expectedExceptionFactory = new ExpectedExceptionFactory(false);
+
+    @BeforeEach
+    void setUp() {
+        bookRecord = new BookRecord(ID, TITLE, AUTHOR, BookStatusEnum.AVAILABLE, 0L, Instant.now());
+    }
+
+    @Test
+    void whenFindByIdReturnOneBookResponseDto() {
+        BookResponseDto bookResponseDto = new BookResponseDto(ID, TITLE, AUTHOR, BookStatusEnum.AVAILABLE, 0L, null);
+        when(bookReactiveRepository.findById(ID)).thenReturn(Mono.just(bookRecord));
+        when(bookMapper.recordToResponseDto(bookRecord)).thenReturn(bookResponseDto);
+
+        assertEquals(bookResponseDto, bookReactiveServiceImpl.findOneBookById(ID).block());
+    }
+
+    @Test
+    void whenTryFindByIdReturnNotFoundException() {
+        when(bookReactiveRepository.findById(ID)).thenReturn(Mono.empty());
+
+        NotFoundException exception = assertThrows(NotFoundException.class,
+                () -> block(bookReactiveServiceImpl.findOneBookById(ID)));
+
+        assertEquals(String.format(BOOK_NOT_FOUND, ID), exception.getMessage());
+    }
+
+    @Test
+    void whenCreateUseSequenceIdAndCountIt() {
+        when(bookReactiveRepository.nextId()).thenReturn(Mono.just(ID));
+        when(bookReactiveRepository.save(any())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(bookMapper.recordToEntity(any())).thenReturn(new Book(ID, TITLE, AUTHOR, BookStatusEnum.AVAILABLE));
+
+        assertEquals(ID, bookReactiveServiceImpl.create(new BookRequestDto(TITLE, AUTHOR)).block());
+
+        verify(bookReactiveRepository).save(argThat(book -> book.getId() == ID && book.getVersion() == null
+                && book.getStatus() == BookStatusEnum.AVAILABLE));
+        verify(bookSearchService, times(1)).index(any());
+        verify(bookStatisticsService, times(1)).add(BookStatusEnum.AVAILABLE, 1);
+    }
+
+    @Test
+    void whenUpdateBookStatusMoveCounters() {
+        when(bookReactiveRepository.updateStatusByIdAndStatus(anyLong(), any(), any())).thenReturn(Mono.just(0));
+        when(bookReactiveRepository.updateStatusByIdAndStatus(ID, BookStatusEnum.AVAILABLE, BookStatusEnum.BORROWED))
+                .thenReturn(Mono.just(1));
+
+        bookReactiveServiceImpl.updateBookStatus(ID, new BookStatusRequestDto(BookStatusEnum.BORROWED)).block();
+
+        verify(bookStatisticsService, times(1)).move(BookStatusEnum.AVAILABLE, BookStatusEnum.BORROWED, 1);
+        verify(bookReactiveRepository, never()).existsById(anyLong());
+    }
+
+    @Test
+    void whenTryUpdateBookStatusReturnNotFoundException() {
+        when(bookReactiveRepository.updateStatusByIdAndStatus(anyLong(), any(), any())).thenReturn(Mono.just(0));
+        when(bookReactiveRepository.existsById(ID)).thenReturn(Mono.just(false));
+
+        NotFoundException exception = assertThrows(NotFoundException.class, () -> block(
+                bookReactiveServiceImpl.updateBookStatus(ID, new BookStatusRequestDto(BookStatusEnum.BORROWED))));
+
+        assertEquals(String.format(BOOK_NOT_FOUND, ID), exception.getMessage());
+    }
+
+    @Test
+    void whenTryBorrowBorrowedBookReturnConflictException() {
+        when(bookReactiveRepository.updateStatusByIdAndStatus(ID, BookStatusEnum.AVAILABLE, BookStatusEnum.BORROWED))
+                .thenReturn(Mono.just(0));
+        when(bookReactiveRepository.existsById(ID)).thenReturn(Mono.just(true));
+
+        ConflictException exception = assertThrows(ConflictException.class,
+                () -> block(bookReactiveServiceImpl.borrow(ID)));
+
+        assertEquals(String.format(BOOK_ALREADY_BORROWED, ID), exception.getMessage());
+        verify(bookStatisticsService, never()).move(any(), any(), anyLong());
+    }
+
+    @Test
+    void whenTryDeleteBorrowedBookReturnBadRequestException() {
+        when(bookReactiveRepository.deleteByIdAndStatusNot(ID, BookStatusEnum.BORROWED)).thenReturn(Mono.just(0));
+        when(bookReactiveRepository.existsById(ID)).thenReturn(Mono.just(true));
+
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> block(bookReactiveServiceImpl.delete(ID)));
+
+        assertEquals(CANNOT_DELETE_BOOK_WITH_BORROWED_STATUS, exception.getMessage());
+        verify(bookSearchService, never()).remove(any());
+    }
+
+    /**
+     * Rethrows the checked exception {@code block()} wraps.
+     */
+    private static <T> T block(Mono<T> mono) throws Exception {
+        try {
+            return mono.block();
+        } catch (RuntimeException e) {
+            throw (Exception) Exceptions.unwrap(e);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.github.silviacristinaa.library.services.impl;
+
+import com.github.silviacristinaa.library.dtos.responses.BookResponseDto;
+import com.github.silviacristinaa.library.entities.Book;
+import com.github.silviacristinaa.library.enums.BookStatusEnum;
+import com.github.silviacristinaa.library.exceptions.BadRequestException;
+import com.github.silviacristinaa.library.exceptions.ExpectedExceptionFactory;
+import com.github.silviacristinaa.library.repositories.BookRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+public class BookSearchServiceImplTest {
+
+    private static final String QUERY_MUST_NOT_BE_BLANK = "Query must not be blank";
+    private static final String INVALID_LIMIT = "Limit must be between 1 and 100";
+
+    private static final int FETCH_SIZE = 500;
+    private static final int LIMIT = 20;
+
+    private Book tolkien;
+    private Book austen;
+    private Book hobbitStudy;
+
+    private BookSearchServiceImpl bookSearchServiceImpl;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        bookSearchServiceImpl = new BookSearchServiceImpl(bookRepository, new ExpectedExceptionFactory(false), "",
+                FETCH_SIZE, false);
+
+        tolkien = new Book(1L, "The Hobbit", "J. R. R. Tolkien", BookStatusEnum.AVAILABLE);
+        austen = new Book(2L, "Pride and Prejudice", "Jane Austen", BookStatusEnum.BORROWED);
+        hobbitStudy = new Book(3L, "Middle-earth Essays", "Hobbit Society", BookStatusEnum.AVAILABLE);
+
+        bookSearchServiceImpl.index(List.of(tolkien, austen, hobbitStudy));
+        when(bookRepository.findAllById(anyIterable())).thenReturn(List.of(tolkien, austen, hobbitStudy));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        bookSearchServiceImpl.close();
+    }
+
+    @Test
+    void whenSearchReturnTitleMatchesBeforeAuthorMatches() throws BadRequestException, IOException {
+        List<BookResponseDto> response = bookSearchServiceImpl.search("hobbit", LIMIT);
+
+        assertEquals(List.of(1L, 3L), response.stream().map(BookResponseDto::getId).toList());
+        assertEquals("The Hobbit", response.get(0).getTitle());
+    }
+
+    @Test
+    void whenSearchWithPrefixAndSeveralTermsReturnBooksMatchingAllTerms() throws BadRequestException, IOException {
+        List<BookResponseDto> response = bookSearchServiceImpl.search("Prid AUST", LIMIT);
+
+        assertEquals(1, response.size());
+        assertEquals(2L, response.get(0).getId());
+        assertEquals(BookStatusEnum.BORROWED, response.get(0).getStatus());
+    }
+
+    @Test
+    void whenSearchAfterRemoveReturnNoMatch() throws BadRequestException, IOException {
+        bookSearchServiceImpl.remove(List.of(2L));
+
+        assertTrue(bookSearchServiceImpl.search("austen", LIMIT).isEmpty());
+    }
+
+    @Test
+    void whenSearchAfterReindexReturnUpdatedTitle() throws BadRequestException, IOException {
+        tolkien.setTitle("The Lord of the Rings");
+        bookSearchServiceImpl.index(List.of(tolkien));
+
+        assertEquals(List.of(3L), bookSearchServiceImpl.search("hobbit", LIMIT).stream()
+                .map(BookResponseDto::getId).toList());
+        assertEquals(1, bookSearchServiceImpl.search("rings", LIMIT).size());
+    }
+
+    @Test
+    void whenSearchMatchesDeletedRowSkipIt() throws BadRequestException, IOException {
+        when(bookRepository.findAllById(anyIterable())).thenReturn(List.of(hobbitStudy));
+
+        assertEquals(List.of(3L), bookSearchServiceImpl.search("hobbit", LIMIT).stream()
+                .map(BookResponseDto::getId).toList());
+    }
+
+    @Test
+    void whenRebuildReturnIndexedCount() throws IOException, BadRequestException {
+        when(bookRepository.streamAll(anyInt())).thenReturn(Stream.of(
+                new BookResponseDto(2L, austen.getTitle(), austen.getAuthor(), austen.getStatus(),
+                        austen.getVersion(), austen.getUpdatedAt())));
+
+        assertEquals(1, bookSearchServiceImpl.rebuild());
+        assertTrue(bookSearchServiceImpl.search("hobbit", LIMIT).isEmpty());
+
+        verify(bookRepository, times(1)).streamAll(FETCH_SIZE);
+    }
+
+    @Test
+    void whenIndexDuringRebuildKeepPreviousIndexAndApplyUpdateOverSnapshot() throws IOException, BadRequestException {
+        BookResponseDto snapshot = new BookResponseDto(2L, austen.getTitle(), austen.getAuthor(), austen.getStatus(),
+                austen.getVersion(), austen.getUpdatedAt());
+        when(bookRepository.streamAll(anyInt())).thenReturn(Stream.of(snapshot).peek(book -> {
+            austen.setTitle("Emma");
+            bookSearchServiceImpl.index(List.of(austen));
+
+            assertEquals(List.of(1L, 3L), assertDoesNotThrow(() -> searchIds("hobbit")));
+            assertTrue(assertDoesNotThrow(() -> searchIds("emma")).isEmpty());
+        }));
+
+        assertEquals(1, bookSearchServiceImpl.rebuild());
+
+        assertEquals(List.of(2L), searchIds("emma"));
+        assertTrue(searchIds("prejudice").isEmpty());
+        assertTrue(searchIds("hobbit").isEmpty());
+    }
+
+    @Test
+    void whenTrySearchWithBlankQueryReturnBadRequestException() {
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> bookSearchServiceImpl.search(" ... ", LIMIT));
+
+        assertEquals(QUERY_MUST_NOT_BE_BLANK, exception.getMessage());
+    }
+
+    @Test
+    void whenTrySearchWithInvalidLimitReturnBadRequestException() {
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> bookSearchServiceImpl.search("hobbit", 101));
+
+        assertEquals(INVALID_LIMIT, exception.getMessage());
+    }
+
+    private List<Long> searchIds(String query) throws BadRequestException, IOException {
+        return bookSearchServiceImpl.search(query, LIMIT).stream().map(BookResponseDto::getId).toList();
+    }
+}
@@ -1,27 +1,54 @@
 package com.github.silviacristinaa.library.services.impl;
 
+import com.github.silviacristinaa.library.dtos.requests.BookBulkStatusRequestDto;
+import com.github.silviacristinaa.library.dtos.requests.BookBulkUpdateRequestDto;
+import com.github.silviacristinaa.library.dtos.requests.BookFilterRequestDto;
 import com.github.silviacristinaa.library.dtos.requests.BookRequestDto;
 import com.github.silviacristinaa.library.dtos.requests.BookStatusRequestDto;
+import com.github.silviacristinaa.library.dtos.responses.BookLookupItemResponseDto;
+import com.github.silviacristinaa.library.dtos.responses.BookLookupResponseDto;
 import com.github.silviacristinaa.library.dtos.responses.BookResponseDto;
+import com.github.silviacristinaa.library.dtos.responses.BulkResponseDto;
+import com.github.silviacristinaa.library.dtos.responses.CursorPageResponseDto;
 import com.github.silviacristinaa.library.entities.Book;
+import com.github.silviacristinaa.library.enums.BookEventTypeEnum;
 import com.github.silviacristinaa.library.enums.BookStatusEnum;
 import com.github.silviacristinaa.library.exceptions.BadRequestException;
+import com.github.silviacristinaa.library.exceptions.ConflictException;
+import com.github.silviacristinaa.library.exceptions.ExpectedExceptionFactory;
 import com.github.silviacristinaa.library.exceptions.NotFoundException;
+import com.github.silviacristinaa.library.mappers.BookMapper;
 import com.github.silviacristinaa.library.repositories.BookRepository;
+import com.github.silviacristinaa.library.services.BookSearchService;
+import com.github.silviacristinaa.library.services.BookEventService;
+import com.github.silviacristinaa.library.services.BookStatisticsService;
+import com.github.silviacristinaa.library.services.BookStatusWriteBehindService;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
-import org.modelmapper.ModelMapper;
+import org.mockito.Spy;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -30,12 +57,20 @@ import static org.mockito.Mockito.*;
 public class BookServiceImplTest {
 
     private static final String BOOK_NOT_FOUND = "Book %s not found";
+    private static final String BOOK_ALREADY_BORROWED = "Book %s is already borrowed";
+    private static final String BOOK_NOT_BORROWED = "Book %s is not borrowed";
+    private static final String BOOK_STATUS_CHANGED = "Book %s changed status meanwhile";
     private static final String CANNOT_DELETE_BOOK_WITH_BORROWED_STATUS = "Cannot delete a book with borrowed status";
+    private static final String INVALID_CURSOR = "Invalid cursor";
+    private static final String INVALID_CURSOR_SIZE = "Size must be between 1 and 100";
+    private static final String INVALID_BULK_SIZE = "Bulk size must be between 1 and 1000";
 
     private static final long ID = 1L;
     private static final String TITLE = "Test";
     private static final String AUTHOR = "test";
     private static final int INDEX = 0;
+    private static final long VERSION = 0L;
+    private static final Instant UPDATED_AT = Instant.parse("2024-01-01T00:00:00Z");
 
     private BookRequestDto bookRequestDto;
     private BookStatusRequestDto bookStatusRequestDto;
@@ -50,7 +85,34 @@ public class BookServiceImplTest {
     private BookRepository bookRepository;
 
     @Mock
-    private ModelMapper modelMapper;
+    private BookMapper bookMapper;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private BookSearchService bookSearchService;
+
+    @Mock
+    private BookStatisticsService bookStatisticsService;
+
+    @Mock
+    private BookStatusWriteBehindService bookStatusWriteBehindService;
+
+    @Mock
+    private BookEventService bookEventService;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Spy
+    private ExpectedExceptionFactory expectedExceptionFactory = new ExpectedExceptionFactory(false);
+
+    @Spy
+    private SingleFlight<Long, BookResponseDto> bookLookups = new SingleFlight<>(Duration.ofSeconds(1));
 
     @BeforeEach
     void setUp() {
@@ -58,17 +120,19 @@ public class BookServiceImplTest {
 
         bookStatusRequestDto = new BookStatusRequestDto(BookStatusEnum.BORROWED);
 
-        bookResponseDto = new BookResponseDto(ID, TITLE, AUTHOR, BookStatusEnum.AVAILABLE);
+        bookResponseDto = new BookResponseDto(ID, TITLE, AUTHOR, BookStatusEnum.AVAILABLE, VERSION, UPDATED_AT);
 
         book = new Book(ID, TITLE, AUTHOR, BookStatusEnum.AVAILABLE);
+
+        when(cacheManager.getCache(anyString())).thenReturn(cache);
     }
 
     @Test
     void whenFindAllReturnBookResponseDtoPage() {
-        when(bookRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(book)));
-        when(modelMapper.map(any(), any())).thenReturn(bookResponseDto);
+        when(bookRepository.findAllResponseDtos(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(bookResponseDto)));
 
-        Page<BookResponseDto> response = bookServiceImpl.findAll(Pageable.ofSize(1));
+        Page<BookResponseDto> response = bookServiceImpl.findAll(new BookFilterRequestDto(), Pageable.ofSize(1));
 
         assertNotNull(response);
         assertEquals(1, response.getSize());
@@ -78,12 +142,75 @@ public class BookServiceImplTest {
         assertEquals(TITLE, response.getContent().get(INDEX).getTitle());
         assertEquals(AUTHOR, response.getContent().get(INDEX).getAuthor());
         assertEquals(BookStatusEnum.AVAILABLE, response.getContent().get(INDEX).getStatus());
+
+        verify(bookMapper, never()).toResponseDto(any());
+        verify(bookRepository, never()).findAllByFilter(any(), any());
+    }
+
+    @Test
+    void whenFindAllWithFilterReturnFilteredPage() {
+        BookFilterRequestDto bookFilterRequestDto = new BookFilterRequestDto(BookStatusEnum.AVAILABLE, AUTHOR, " ");
+        when(bookRepository.findAllByFilter(any(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(bookResponseDto)));
+
+        Page<BookResponseDto> response = bookServiceImpl.findAll(bookFilterRequestDto, Pageable.ofSize(1));
+
+        assertEquals(1, response.getTotalElements());
+        assertEquals(ID, response.getContent().get(INDEX).getId());
+
+        verify(bookRepository, times(1)).findAllByFilter(bookFilterRequestDto, Pageable.ofSize(1));
+        verify(bookRepository, never()).findAllResponseDtos(any());
+    }
+
+    @Test
+    void whenFindAllByCursorWithNextPageReturnNextCursor() throws BadRequestException {
+        BookResponseDto nextBook = new BookResponseDto(2L, TITLE, AUTHOR, BookStatusEnum.AVAILABLE,
+                VERSION, UPDATED_AT);
+        when(bookRepository.findResponseDtosByIdGreaterThan(anyLong(), any(Limit.class)))
+                .thenReturn(List.of(bookResponseDto, nextBook));
+
+        CursorPageResponseDto<BookResponseDto> response = bookServiceImpl.findAllByCursor(null, 1);
+
+        assertNotNull(response);
+        assertEquals(1, response.getSize());
+        assertEquals(ID, response.getContent().get(INDEX).getId());
+        assertEquals(encodeCursor(ID), response.getNextCursor());
+
+        verify(bookRepository).findResponseDtosByIdGreaterThan(Long.MIN_VALUE, Limit.of(2));
+    }
+
+    @Test
+    void whenFindAllByCursorOnLastPageReturnNoNextCursor() throws BadRequestException {
+        when(bookRepository.findResponseDtosByIdGreaterThan(anyLong(), any(Limit.class)))
+                .thenReturn(List.of(bookResponseDto));
+
+        CursorPageResponseDto<BookResponseDto> response = bookServiceImpl.findAllByCursor(encodeCursor(0L), 10);
+
+        assertEquals(1, response.getSize());
+        assertNull(response.getNextCursor());
+
+        verify(bookRepository).findResponseDtosByIdGreaterThan(0L, Limit.of(11));
+    }
+
+    @Test
+    void whenTryFindAllByCursorWithInvalidCursorReturnBadRequestException() {
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> bookServiceImpl.findAllByCursor("not-a-cursor", 10));
+
+        assertEquals(INVALID_CURSOR, exception.getMessage());
+    }
+
+    @Test
+    void whenTryFindAllByCursorWithInvalidSizeReturnBadRequestException() {
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> bookServiceImpl.findAllByCursor(null, 101));
+
+        assertEquals(INVALID_CURSOR_SIZE, exception.getMessage());
     }
 
     @Test
     void whenFindByIdReturnOneBookResponseDto() throws NotFoundException {
-        when(bookRepository.findById(anyLong())).thenReturn(Optional.of(book));
-        when(modelMapper.map(any(), any())).thenReturn(bookResponseDto);
+        when(bookRepository.findResponseDtoById(anyLong())).thenReturn(Optional.of(bookResponseDto));
 
         BookResponseDto response = bookServiceImpl.findOneBookById(ID);
 
@@ -98,7 +225,7 @@ public class BookServiceImplTest {
 
     @Test
     void whenTryFindByIdReturnNotFoundException() {
-        when(bookRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(bookRepository.findResponseDtoById(anyLong())).thenReturn(Optional.empty());
 
         NotFoundException exception = assertThrows(NotFoundException.class,
                 () -> bookServiceImpl.findOneBookById(ID));
@@ -106,9 +233,52 @@ public class BookServiceImplTest {
         assertEquals(String.format(BOOK_NOT_FOUND, ID), exception.getMessage());
     }
 
+    @Test
+    void whenFindAllBooksByIdReturnItemsInRequestOrder() throws BadRequestException {
+        BookResponseDto cached = new BookResponseDto(2L, TITLE, AUTHOR, BookStatusEnum.BORROWED, VERSION, UPDATED_AT);
+        when(cache.get(2L, BookResponseDto.class)).thenReturn(cached);
+        when(bookRepository.findResponseDtosByIdIn(anyCollection())).thenReturn(List.of(bookResponseDto));
+
+        BookLookupResponseDto response = bookServiceImpl.findAllBooksById(Arrays.asList(3L, ID, null, 2L, ID));
+
+        assertEquals(3, response.getFound());
+        assertEquals(2, response.getMissing());
+        assertEquals(List.of(404, 200, 400, 200, 200),
+                response.getItems().stream().map(BookLookupItemResponseDto::getStatus).toList());
+        assertEquals(String.format(BOOK_NOT_FOUND, 3L), response.getItems().get(0).getError());
+        assertSame(bookResponseDto, response.getItems().get(1).getBook());
+        assertSame(cached, response.getItems().get(3).getBook());
+        assertSame(bookResponseDto, response.getItems().get(4).getBook());
+
+        // Only the cold ids reach the database, once each, and what was found is cached
+        verify(bookRepository, times(1)).findResponseDtosByIdIn(List.of(3L, ID));
+        verify(cache, times(1)).put(ID, bookResponseDto);
+        verify(bookRepository, never()).findResponseDtoById(anyLong());
+    }
+
+    @Test
+    void whenFindAllBooksByIdWithManyIdsQueryInChunks() throws BadRequestException {
+        List<Long> ids = LongStream.rangeClosed(1, 1000).boxed().toList();
+        when(bookRepository.findResponseDtosByIdIn(anyCollection())).thenReturn(List.of());
+
+        BookLookupResponseDto response = bookServiceImpl.findAllBooksById(ids);
+
+        assertEquals(1000, response.getMissing());
+        verify(bookRepository, times(1)).findResponseDtosByIdIn(ids.subList(0, 500));
+        verify(bookRepository, times(1)).findResponseDtosByIdIn(ids.subList(500, 1000));
+    }
+
+    @Test
+    void whenTryFindAllBooksByIdWithoutIdsReturnBadRequestException() {
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> bookServiceImpl.findAllBooksById(List.of()));
+
+        assertEquals(INVALID_BULK_SIZE, exception.getMessage());
+    }
+
     @Test
     void whenCreateReturnSuccess() {
-        when(modelMapper.map(any(), any())).thenReturn(book);
+        when(bookMapper.toEntity(any())).thenReturn(book);
         when(bookRepository.save(any())).thenReturn(book);
 
         Book response = bookServiceImpl.create(bookRequestDto);
@@ -121,20 +291,191 @@ public class BookServiceImplTest {
         assertEquals(BookStatusEnum.AVAILABLE, response.getStatus());
 
         verify(bookRepository, times(1)).save(Mockito.any());
+        verify(bookSearchService, times(1)).index(List.of(book));
+        verify(bookStatisticsService, times(1)).add(BookStatusEnum.AVAILABLE, 1);
+        verify(bookEventService, times(1)).record(argThat(events -> events.size() == 1
+                && events.get(0).getType() == BookEventTypeEnum.CREATED && events.get(0).getBookId() == ID));
     }
 
     @Test
-    void whenUpdateBookStatusReturnSuccess() throws NotFoundException {
-        when(bookRepository.findById(anyLong())).thenReturn(Optional.of(book));
+    void whenCreateAllReturnItemResults() throws BadRequestException {
+        when(bookMapper.toEntity(any())).thenReturn(new Book(null, TITLE, AUTHOR, null));
+        when(bookRepository.saveAll(anyList())).thenReturn(List.of(book));
+
+        BulkResponseDto response = bookServiceImpl.createAll(
+                List.of(bookRequestDto, new BookRequestDto(null, AUTHOR)));
+
+        assertEquals(1, response.getSucceeded());
+        assertEquals(1, response.getFailed());
+
+        assertEquals(0, response.getItems().get(0).getIndex());
+        assertEquals(ID, response.getItems().get(0).getId());
+        assertEquals(201, response.getItems().get(0).getStatus());
+
+        assertEquals(1, response.getItems().get(1).getIndex());
+        assertNull(response.getItems().get(1).getId());
+        assertEquals(400, response.getItems().get(1).getStatus());
+        assertEquals("title must not be blank", response.getItems().get(1).getError());
+
+        verify(bookRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void whenTryCreateAllWithoutItemsReturnBadRequestException() {
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> bookServiceImpl.createAll(List.of()));
+
+        assertEquals(INVALID_BULK_SIZE, exception.getMessage());
+    }
+
+    @Test
+    void whenUpdateAllReturnItemResults() throws BadRequestException {
+        when(bookRepository.findAllById(anyList())).thenReturn(List.of(book));
+        when(bookMapper.toResponseDto(book)).thenReturn(bookResponseDto);
+
+        BulkResponseDto response = bookServiceImpl.updateAll(List.of(
+                new BookBulkUpdateRequestDto(ID, "Updated Test", "updated test"),
+                new BookBulkUpdateRequestDto(999L, TITLE, AUTHOR)));
+
+        assertEquals(1, response.getSucceeded());
+        assertEquals(1, response.getFailed());
+        assertEquals(204, response.getItems().get(0).getStatus());
+        assertEquals(404, response.getItems().get(1).getStatus());
+        assertEquals(String.format(BOOK_NOT_FOUND, 999), response.getItems().get(1).getError());
+
+        assertEquals("Updated Test", book.getTitle());
+        assertEquals("updated test", book.getAuthor());
+
+        verify(cache, times(1)).put(ID, bookResponseDto);
+        verify(bookRepository, times(1)).saveAllAndFlush(anyCollection());
+        verify(bookSearchService, times(1)).index(List.of(book));
+    }
+
+    @Test
+    void whenUpdateAllBookStatusReturnItemResults() throws BadRequestException {
+        BookResponseDto borrowed = new BookResponseDto(ID, TITLE, AUTHOR, BookStatusEnum.BORROWED, VERSION + 1,
+                UPDATED_AT);
+        when(bookRepository.findResponseDtosByIdIn(anyCollection()))
+                .thenReturn(List.of(bookResponseDto), List.of(borrowed));
+        when(bookRepository.updateStatusByIdAndStatus(ID, BookStatusEnum.AVAILABLE, BookStatusEnum.BORROWED))
+                .thenReturn(1);
+
+        BulkResponseDto response = bookServiceImpl.updateAllBookStatus(
+                new BookBulkStatusRequestDto(List.of(ID, 999L), BookStatusEnum.BORROWED));
+
+        assertEquals(1, response.getSucceeded());
+        assertEquals(1, response.getFailed());
+        assertEquals(204, response.getItems().get(0).getStatus());
+        assertEquals(404, response.getItems().get(1).getStatus());
+
+        verify(bookRepository, never()).saveAllAndFlush(anyCollection());
+        verify(bookStatisticsService, times(1)).move(BookStatusEnum.AVAILABLE, BookStatusEnum.BORROWED, 1);
+        verify(cache, times(1)).put(ID, borrowed);
+        verify(bookEventService, times(1)).record(argThat(events -> events.size() == 1
+                && events.get(0).getStatus() == BookStatusEnum.BORROWED
+                && events.get(0).getBookVersion() == VERSION + 1));
+    }
+
+    @Test
+    void whenBookChangesDuringUpdateAllBookStatusReturnConflictItem() throws BadRequestException {
+        BookResponseDto other = new BookResponseDto(2L, TITLE, AUTHOR, BookStatusEnum.AVAILABLE, VERSION,
+                UPDATED_AT);
+        when(bookRepository.findResponseDtosByIdIn(anyCollection()))
+                .thenReturn(List.of(bookResponseDto, other), List.of(other));
+        when(bookRepository.updateStatusByIdAndStatus(ID, BookStatusEnum.AVAILABLE, BookStatusEnum.BORROWED))
+                .thenReturn(0);
+        when(bookRepository.updateStatusByIdAndStatus(2L, BookStatusEnum.AVAILABLE, BookStatusEnum.BORROWED))
+                .thenReturn(1);
+        when(bookRepository.existsById(ID)).thenReturn(true);
+
+        BulkResponseDto response = bookServiceImpl.updateAllBookStatus(
+                new BookBulkStatusRequestDto(List.of(ID, 2L), BookStatusEnum.BORROWED));
+
+        assertEquals(1, response.getSucceeded());
+        assertEquals(1, response.getFailed());
+        assertEquals(409, response.getItems().get(0).getStatus());
+        assertEquals(String.format(BOOK_STATUS_CHANGED, ID), response.getItems().get(0).getError());
+        assertEquals(204, response.getItems().get(1).getStatus());
+
+        verify(bookStatisticsService, times(1)).move(BookStatusEnum.AVAILABLE, BookStatusEnum.BORROWED, 1);
+    }
+
+    @Test
+    void whenUpdateBookStatusReturnSuccess() throws NotFoundException, IOException {
+        when(bookRepository.updateStatusByIdAndStatus(anyLong(), any(), any())).thenReturn(1);
+        when(bookRepository.findResponseDtoById(ID)).thenReturn(Optional.of(bookResponseDto));
 
         bookServiceImpl.updateBookStatus(ID, bookStatusRequestDto);
 
-        verify(bookRepository, times(1)).save(Mockito.any());
+        verify(bookRepository, times(1))
+                .updateStatusByIdAndStatus(ID, BookStatusEnum.AVAILABLE, BookStatusEnum.BORROWED);
+        verify(bookRepository, never()).save(Mockito.any());
+        verify(bookStatisticsService, times(1)).move(BookStatusEnum.AVAILABLE, BookStatusEnum.BORROWED, 1);
+        verify(cache, times(1)).put(ID, bookResponseDto);
+    }
+
+    @Test
+    void whenUpdateBookStatusToCurrentStatusReturnSuccessWithoutChanges() throws NotFoundException, IOException {
+        when(bookRepository.updateStatusByIdAndStatus(anyLong(), any(), any())).thenReturn(0);
+        when(bookRepository.existsById(anyLong())).thenReturn(true);
+
+        bookServiceImpl.updateBookStatus(ID, bookStatusRequestDto);
+
+        verify(bookStatisticsService, never()).move(any(), any(), anyLong());
+        verify(bookEventService, never()).record(any());
+    }
+
+    @Test
+    void whenWriteBehindEnabledUpdateBookStatusAppendsWithoutWriting() throws NotFoundException, IOException {
+        when(bookStatusWriteBehindService.isEnabled()).thenReturn(true);
+        when(bookRepository.existsById(anyLong())).thenReturn(true);
+
+        bookServiceImpl.updateBookStatus(ID, bookStatusRequestDto);
+
+        verify(bookStatusWriteBehindService, times(1)).append(ID, BookStatusEnum.BORROWED);
+        verify(bookRepository, never()).updateStatusByIdAndStatus(anyLong(), any(), any());
+        verify(cache, times(1)).evict(ID);
+        verify(bookStatisticsService, never()).move(any(), any(), anyLong());
+    }
+
+    @Test
+    void whenWriteBehindEnabledTryUpdateUnknownBookReturnNotFoundException() throws IOException {
+        when(bookStatusWriteBehindService.isEnabled()).thenReturn(true);
+        when(bookRepository.existsById(anyLong())).thenReturn(false);
+
+        assertThrows(NotFoundException.class, () -> bookServiceImpl.updateBookStatus(ID, bookStatusRequestDto));
+
+        verify(bookStatusWriteBehindService, never()).append(anyLong(), any());
+    }
+
+    @Test
+    void whenStatusPendingFindOneBookByIdReturnPendingStatusWithoutVersion() throws NotFoundException {
+        when(bookRepository.findResponseDtoById(anyLong())).thenReturn(Optional.of(bookResponseDto));
+        when(bookStatusWriteBehindService.pendingStatus(anyLong())).thenReturn(Optional.of(BookStatusEnum.BORROWED));
+
+        BookResponseDto response = bookServiceImpl.findOneBookById(ID);
+
+        assertEquals(BookStatusEnum.BORROWED, response.getStatus());
+        assertEquals(TITLE, response.getTitle());
+        assertNull(response.getVersion());
+    }
+
+    @Test
+    void whenStatusFlushedWhileReadingFindOneBookByIdReturnPendingStatus() throws NotFoundException {
+        when(bookRepository.findResponseDtoById(anyLong())).thenReturn(Optional.of(bookResponseDto));
+        when(bookStatusWriteBehindService.pendingStatus(anyLong()))
+                .thenReturn(Optional.of(BookStatusEnum.BORROWED), Optional.empty());
+
+        BookResponseDto response = bookServiceImpl.findOneBookById(ID);
+
+        assertEquals(BookStatusEnum.BORROWED, response.getStatus());
+        assertNull(response.getVersion());
     }
 
     @Test
     void whenTryUpdateBookStatusReturnNotFoundException() {
-        when(bookRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(bookRepository.updateStatusByIdAndStatus(anyLong(), any(), any())).thenReturn(0);
+        when(bookRepository.existsById(anyLong())).thenReturn(false);
 
         NotFoundException exception = assertThrows(NotFoundException.class,
                 () -> bookServiceImpl.updateBookStatus(ID, bookStatusRequestDto));
@@ -142,14 +483,78 @@ public class BookServiceImplTest {
         assertEquals(String.format(BOOK_NOT_FOUND, ID), exception.getMessage());
     }
 
+    @Test
+    void whenBorrowReturnSuccess() throws NotFoundException, ConflictException {
+        when(bookRepository.updateStatusByIdAndStatus(anyLong(), any(), any())).thenReturn(1);
+        BookResponseDto borrowed = new BookResponseDto(ID, TITLE, AUTHOR, BookStatusEnum.BORROWED, VERSION + 1,
+                UPDATED_AT);
+        when(bookRepository.findResponseDtoById(ID)).thenReturn(Optional.of(borrowed));
+
+        bookServiceImpl.borrow(ID);
+
+        verify(bookRepository, times(1))
+                .updateStatusByIdAndStatus(ID, BookStatusEnum.AVAILABLE, BookStatusEnum.BORROWED);
+        verify(bookRepository, never()).existsById(anyLong());
+        verify(bookStatisticsService, times(1)).move(BookStatusEnum.AVAILABLE, BookStatusEnum.BORROWED, 1);
+        verify(bookEventService, times(1)).record(argThat(events -> events.size() == 1
+                && events.get(0).getType() == BookEventTypeEnum.STATUS_CHANGED
+                && events.get(0).getStatus() == BookStatusEnum.BORROWED
+                && events.get(0).getBookVersion() == VERSION + 1));
+        verify(cache, times(1)).put(ID, borrowed);
+    }
+
+    @Test
+    void whenTryBorrowBorrowedBookReturnConflictException() {
+        when(bookRepository.updateStatusByIdAndStatus(anyLong(), any(), any())).thenReturn(0);
+        when(bookRepository.existsById(anyLong())).thenReturn(true);
+
+        ConflictException exception = assertThrows(ConflictException.class, () -> bookServiceImpl.borrow(ID));
+
+        assertEquals(String.format(BOOK_ALREADY_BORROWED, ID), exception.getMessage());
+        verify(bookStatisticsService, never()).move(any(), any(), anyLong());
+    }
+
+    @Test
+    void whenTryBorrowReturnNotFoundException() {
+        when(bookRepository.updateStatusByIdAndStatus(anyLong(), any(), any())).thenReturn(0);
+        when(bookRepository.existsById(anyLong())).thenReturn(false);
+
+        NotFoundException exception = assertThrows(NotFoundException.class, () -> bookServiceImpl.borrow(ID));
+
+        assertEquals(String.format(BOOK_NOT_FOUND, ID), exception.getMessage());
+    }
+
+    @Test
+    void whenGiveBackReturnSuccess() throws NotFoundException, ConflictException {
+        when(bookRepository.updateStatusByIdAndStatus(anyLong(), any(), any())).thenReturn(1);
+        when(bookRepository.findResponseDtoById(ID)).thenReturn(Optional.of(bookResponseDto));
+
+        bookServiceImpl.giveBack(ID);
+
+        verify(bookRepository, times(1))
+                .updateStatusByIdAndStatus(ID, BookStatusEnum.BORROWED, BookStatusEnum.AVAILABLE);
+    }
+
+    @Test
+    void whenTryGiveBackAvailableBookReturnConflictException() {
+        when(bookRepository.updateStatusByIdAndStatus(anyLong(), any(), any())).thenReturn(0);
+        when(bookRepository.existsById(anyLong())).thenReturn(true);
+
+        ConflictException exception = assertThrows(ConflictException.class, () -> bookServiceImpl.giveBack(ID));
+
+        assertEquals(String.format(BOOK_NOT_BORROWED, ID), exception.getMessage());
+    }
+
     @Test
     void whenUpdateReturnSuccess() throws NotFoundException {
         when(bookRepository.findById(anyLong())).thenReturn(Optional.of(book));
-        when(modelMapper.map(any(), any())).thenReturn(book);
+        when(bookMapper.toResponseDto(book)).thenReturn(bookResponseDto);
 
         bookServiceImpl.update(ID, bookRequestDto);
 
-        verify(bookRepository, times(1)).save(Mockito.any());
+        verify(bookRepository, times(1)).saveAndFlush(Mockito.any());
+        verify(bookSearchService, times(1)).index(List.of(book));
+        verify(cache, times(1)).put(ID, bookResponseDto);
     }
 
     @Test
@@ -164,16 +569,21 @@ public class BookServiceImplTest {
 
     @Test
     void whenDeleteReturnSuccess() throws NotFoundException, BadRequestException {
-        when(bookRepository.findById(anyLong())).thenReturn(Optional.of(book));
+        when(bookRepository.deleteByIdAndStatusNot(anyLong(), any())).thenReturn(1);
 
         bookServiceImpl.delete(ID);
 
-        verify(bookRepository, times(1)).delete(any());
+        verify(bookRepository, times(1)).deleteByIdAndStatusNot(ID, BookStatusEnum.BORROWED);
+        verify(bookSearchService, times(1)).remove(List.of(ID));
+        verify(bookStatisticsService, times(1)).add(BookStatusEnum.AVAILABLE, -1);
+        verify(bookEventService, times(1)).record(argThat(events -> events.size() == 1
+                && events.get(0).getType() == BookEventTypeEnum.DELETED));
     }
 
     @Test
     void whenTryDeleteReturnNotFoundException() {
-        when(bookRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(bookRepository.deleteByIdAndStatusNot(anyLong(), any())).thenReturn(0);
+        when(bookRepository.existsById(anyLong())).thenReturn(false);
 
         NotFoundException exception = assertThrows(NotFoundException.class,
                 () -> bookServiceImpl.delete(ID));
@@ -183,12 +593,17 @@ public class BookServiceImplTest {
 
     @Test
     void whenTryDeleteReturnBadRequestException() {
-        book.setStatus(BookStatusEnum.BORROWED);
-        when(bookRepository.findById(anyLong())).thenReturn(Optional.of(book));
+        when(bookRepository.deleteByIdAndStatusNot(anyLong(), any())).thenReturn(0);
+        when(bookRepository.existsById(anyLong())).thenReturn(true);
 
         BadRequestException exception = assertThrows(BadRequestException.class,
                 () -> bookServiceImpl.delete(ID));
 
         assertEquals(CANNOT_DELETE_BOOK_WITH_BORROWED_STATUS, exception.getMessage());
     }
+
+    private static String encodeCursor(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(id.toString().getBytes(StandardCharsets.US_ASCII));
+    }
 }
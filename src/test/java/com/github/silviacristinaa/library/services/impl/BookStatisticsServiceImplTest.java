@@ -0,0 +1,101 @@
+package com.github.silviacristinaa.library.services.impl;
+
+import com.github.silviacristinaa.library.dtos.responses.BookStatisticsResponseDto;
+import com.github.silviacristinaa.library.enums.BookStatusEnum;
+import com.github.silviacristinaa.library.repositories.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+public class BookStatisticsServiceImplTest {
+
+    private BookStatisticsServiceImpl bookStatisticsServiceImpl;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @BeforeEach
+    void setUp() {
+        bookStatisticsServiceImpl = new BookStatisticsServiceImpl(bookRepository);
+    }
+
+    @Test
+    void whenAddAndMoveReturnUpdatedCounts() {
+        bookStatisticsServiceImpl.add(BookStatusEnum.AVAILABLE, 10);
+        bookStatisticsServiceImpl.move(BookStatusEnum.AVAILABLE, BookStatusEnum.BORROWED, 3);
+        bookStatisticsServiceImpl.add(BookStatusEnum.AVAILABLE, -1);
+
+        BookStatisticsResponseDto response = bookStatisticsServiceImpl.getStatistics();
+
+        assertEquals(9, response.getTotal());
+        assertEquals(6, response.getByStatus().get(BookStatusEnum.AVAILABLE));
+        assertEquals(3, response.getByStatus().get(BookStatusEnum.BORROWED));
+        assertNull(response.getReconciledAt());
+    }
+
+    @Test
+    void whenInsideTransactionApplyOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            bookStatisticsServiceImpl.add(BookStatusEnum.AVAILABLE, 5);
+
+            assertEquals(0, bookStatisticsServiceImpl.getStatistics().getTotal());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(5, bookStatisticsServiceImpl.getStatistics().getTotal());
+    }
+
+    @Test
+    void whenReconcileReturnDatabaseCounts() {
+        bookStatisticsServiceImpl.add(BookStatusEnum.AVAILABLE, 100);
+        bookStatisticsServiceImpl.add(BookStatusEnum.BORROWED, 7);
+        when(bookRepository.countByStatus()).thenReturn(List.<Object[]>of(new Object[]{BookStatusEnum.AVAILABLE, 42L}));
+
+        BookStatisticsResponseDto response = bookStatisticsServiceImpl.reconcile();
+
+        assertEquals(42, response.getTotal());
+        assertEquals(42, response.getByStatus().get(BookStatusEnum.AVAILABLE));
+        assertEquals(0, response.getByStatus().get(BookStatusEnum.BORROWED));
+        assertNotNull(response.getReconciledAt());
+    }
+
+    @Test
+    void whenReconcileWhileCommitInProgressWaitForItsDeltas() throws InterruptedException {
+        when(bookRepository.countByStatus()).thenReturn(List.<Object[]>of(new Object[]{BookStatusEnum.AVAILABLE, 5L}));
+        Thread reconcile;
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            bookStatisticsServiceImpl.add(BookStatusEnum.AVAILABLE, 5);
+            TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.beforeCommit(false));
+
+            // The count would already see the commit, the counters not yet
+            reconcile = Thread.ofPlatform().start(bookStatisticsServiceImpl::reconcile);
+            reconcile.join(100);
+            assertTrue(reconcile.isAlive());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        reconcile.join();
+        assertEquals(5, bookStatisticsServiceImpl.getStatistics().getTotal());
+    }
+}
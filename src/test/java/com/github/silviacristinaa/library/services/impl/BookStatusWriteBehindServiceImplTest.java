@@ -0,0 +1,213 @@
+package com.github.silviacristinaa.library.services.impl;
+
+import com.github.silviacristinaa.library.entities.Book;
+import com.github.silviacristinaa.library.enums.BookStatusEnum;
+import com.github.silviacristinaa.library.repositories.BookRepository;
+import com.github.silviacristinaa.library.services.BookEventService;
+import com.github.silviacristinaa.library.services.BookStatisticsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+public class BookStatusWriteBehindServiceImplTest {
+
+    private static final long ID = 1L;
+
+    @TempDir
+    private Path directory;
+
+    private Path logPath;
+    private BookStatusWriteBehindServiceImpl bookStatusWriteBehindServiceImpl;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private BookStatisticsService bookStatisticsService;
+
+    @Mock
+    private BookEventService bookEventService;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        logPath = directory.resolve("book-status.log");
+        bookStatusWriteBehindServiceImpl = service(true);
+        when(cacheManager.getCache(anyString())).thenReturn(cache);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        bookStatusWriteBehindServiceImpl.close();
+    }
+
+    @Test
+    void whenAppendKeepOnlyLatestStatusPending() throws IOException {
+        bookStatusWriteBehindServiceImpl.append(ID, BookStatusEnum.BORROWED);
+        bookStatusWriteBehindServiceImpl.append(ID, BookStatusEnum.AVAILABLE);
+
+        assertEquals(Optional.of(BookStatusEnum.AVAILABLE), bookStatusWriteBehindServiceImpl.pendingStatus(ID));
+        assertEquals(List.of("1,BORROWED", "1,AVAILABLE"), Files.readAllLines(logPath));
+        verify(bookRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void whenFlushWriteLatestStatusAndCompactLog() throws IOException {
+        Book book = new Book(ID, "Title", "Author", BookStatusEnum.AVAILABLE);
+        book.setVersion(0L);
+        when(bookRepository.findAllById(any())).thenReturn(List.of(book));
+        bookStatusWriteBehindServiceImpl.append(ID, BookStatusEnum.AVAILABLE);
+        bookStatusWriteBehindServiceImpl.append(ID, BookStatusEnum.BORROWED);
+
+        assertEquals(1, bookStatusWriteBehindServiceImpl.flush());
+
+        assertEquals(BookStatusEnum.BORROWED, book.getStatus());
+        assertEquals(Optional.empty(), bookStatusWriteBehindServiceImpl.pendingStatus(ID));
+        assertEquals(0, Files.size(logPath));
+        verify(bookRepository, times(1)).saveAllAndFlush(List.of(book));
+        verify(bookStatisticsService, times(1)).move(BookStatusEnum.AVAILABLE, BookStatusEnum.BORROWED, 1);
+        verify(cache, times(1)).evict(ID);
+    }
+
+    @Test
+    void whenRecoverReplayLogAndSkipTornLine() throws IOException {
+        bookStatusWriteBehindServiceImpl.close();
+        Files.writeString(logPath, "1,BORROWED\n2,BORROWED\n1,AVAILABLE\n3,BORR");
+        bookStatusWriteBehindServiceImpl = service(true);
+        when(bookRepository.findAllById(any())).thenThrow(new QueryTimeoutException("down"));
+
+        assertEquals(3, bookStatusWriteBehindServiceImpl.recover());
+
+        assertEquals(Optional.of(BookStatusEnum.AVAILABLE), bookStatusWriteBehindServiceImpl.pendingStatus(ID));
+        assertEquals(Optional.of(BookStatusEnum.BORROWED), bookStatusWriteBehindServiceImpl.pendingStatus(2L));
+        assertEquals(2, Files.readAllLines(logPath).size());
+    }
+
+    @Test
+    void whenFlushBeforeRecoverKeepReplayedChanges() throws IOException {
+        bookStatusWriteBehindServiceImpl.close();
+        Files.writeString(logPath, "2,BORROWED\n");
+        bookStatusWriteBehindServiceImpl = service(true);
+        when(bookRepository.findAllById(any())).thenThrow(new QueryTimeoutException("down"));
+
+        bookStatusWriteBehindServiceImpl.append(ID, BookStatusEnum.BORROWED);
+        assertEquals(0, bookStatusWriteBehindServiceImpl.flush());
+
+        assertEquals(Optional.of(BookStatusEnum.BORROWED), bookStatusWriteBehindServiceImpl.pendingStatus(2L));
+        assertEquals(Set.of("1,BORROWED", "2,BORROWED"), Set.copyOf(Files.readAllLines(logPath)));
+    }
+
+    @Test
+    void whenFlushByIdsCommitsCompactLog() throws IOException {
+        Book book = new Book(ID, "Title", "Author", BookStatusEnum.BORROWED);
+        book.setVersion(5L);
+        when(bookRepository.findAllById(any())).thenReturn(List.of(book));
+        bookStatusWriteBehindServiceImpl.append(ID, BookStatusEnum.AVAILABLE);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            bookStatusWriteBehindServiceImpl.flush(List.of(ID));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(Optional.empty(), bookStatusWriteBehindServiceImpl.pendingStatus(ID));
+        assertEquals(0, Files.size(logPath));
+    }
+
+    @Test
+    void whenRestartAfterPatchAndBorrowKeepBorrowedStatus() throws IOException {
+        Book book = new Book(ID, "Title", "Author", BookStatusEnum.BORROWED);
+        book.setVersion(5L);
+        when(bookRepository.findAllById(any())).thenReturn(List.of(book));
+        when(bookRepository.saveAllAndFlush(any())).thenAnswer(invocation -> {
+            book.setVersion(6L);
+            return List.of(book);
+        });
+        bookStatusWriteBehindServiceImpl.append(ID, BookStatusEnum.AVAILABLE);
+
+        // The borrow flushes the patch in its transaction, then commits BORROWED; the process dies before compacting
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            bookStatusWriteBehindServiceImpl.flush(List.of(ID));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        book.setStatus(BookStatusEnum.BORROWED);
+        book.setVersion(7L);
+
+        BookStatusWriteBehindServiceImpl restarted = service(true);
+        try {
+            assertEquals(Optional.empty(), restarted.pendingStatus(ID));
+            restarted.recover();
+        } finally {
+            restarted.close();
+        }
+
+        assertEquals(BookStatusEnum.BORROWED, book.getStatus());
+        verify(bookRepository, times(1)).saveAllAndFlush(any());
+        verify(bookStatisticsService, times(1)).move(BookStatusEnum.BORROWED, BookStatusEnum.AVAILABLE, 1);
+    }
+
+    @Test
+    void whenRestartAfterFlushRolledBackReplayChange() throws IOException {
+        bookStatusWriteBehindServiceImpl.close();
+        Files.writeString(logPath, "1,AVAILABLE\n1,AVAILABLE,6\n");
+        Book book = new Book(ID, "Title", "Author", BookStatusEnum.BORROWED);
+        book.setVersion(5L);
+        when(bookRepository.findAllById(any())).thenReturn(List.of(book));
+
+        bookStatusWriteBehindServiceImpl = service(true);
+
+        assertEquals(Optional.of(BookStatusEnum.AVAILABLE), bookStatusWriteBehindServiceImpl.pendingStatus(ID));
+        assertEquals(List.of("1,AVAILABLE"), Files.readAllLines(logPath));
+    }
+
+    @Test
+    void whenDisabledDoNothing() throws IOException {
+        bookStatusWriteBehindServiceImpl.close();
+        Files.deleteIfExists(logPath);
+        bookStatusWriteBehindServiceImpl = service(false);
+
+        assertFalse(bookStatusWriteBehindServiceImpl.isEnabled());
+        assertEquals(0, bookStatusWriteBehindServiceImpl.recover());
+        assertEquals(0, bookStatusWriteBehindServiceImpl.flush());
+        assertFalse(Files.exists(logPath));
+    }
+
+    private BookStatusWriteBehindServiceImpl service(boolean enabled) throws IOException {
+        return new BookStatusWriteBehindServiceImpl(bookRepository, bookStatisticsService, bookEventService,
+                cacheManager, transactionManager, enabled, logPath.toString(), 500);
+    }
+}
@@ -0,0 +1,115 @@
+package com.github.silviacristinaa.library.services.impl;
+
+import com.github.silviacristinaa.library.exceptions.NotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SingleFlightTest {
+
+    private static final long ID = 1L;
+    private static final int THREADS = 32;
+    private static final String BOOK_NOT_FOUND = "Book 1 not found";
+
+    private final SingleFlight<Long, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(5));
+
+    @Test
+    void whenConcurrentCallersShareKeyLoadOnce() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = submit(THREADS, () -> singleFlight.execute(ID, () -> {
+            loads.incrementAndGet();
+            release.await();
+            return "book";
+        }));
+        awaitWaiting(results);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("book", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    void whenLeaderThrowsNotFoundExceptionEveryCallerGetsIt() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = submit(THREADS, () -> singleFlight.execute(ID, () -> {
+            loads.incrementAndGet();
+            release.await();
+            throw new NotFoundException(BOOK_NOT_FOUND);
+        }));
+        awaitWaiting(results);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            ExecutionException exception = assertThrows(ExecutionException.class,
+                    () -> result.get(5, TimeUnit.SECONDS));
+            assertEquals(NotFoundException.class, exception.getCause().getClass());
+            assertEquals(BOOK_NOT_FOUND, exception.getCause().getMessage());
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void whenLeaderTooSlowCallerLoadsOnItsOwn() throws Exception {
+        SingleFlight<Long, String> shortWait = new SingleFlight<>(Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> leader = submit(1, () -> shortWait.execute(ID, () -> {
+            release.await();
+            return "leader";
+        }));
+        while (shortWait.inFlight() == 0) {
+            Thread.onSpinWait();
+        }
+
+        assertEquals("own", shortWait.execute(ID, () -> "own"));
+
+        release.countDown();
+        assertEquals("leader", leader.get(0).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void whenFlightCompletedNextCallLoadsAgain() throws NotFoundException {
+        AtomicInteger loads = new AtomicInteger();
+        SingleFlight.Loader<String, NotFoundException> loader = () -> "book" + loads.incrementAndGet();
+
+        assertEquals("book1", singleFlight.execute(ID, loader));
+        assertEquals("book2", singleFlight.execute(ID, loader));
+    }
+
+    private static List<Future<String>> submit(int threads, Callable<String> task) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(task));
+        }
+        executor.shutdown();
+        return results;
+    }
+
+    /**
+     * Gives the callers time to reach the flight before the leader is released.
+     */
+    private static void awaitWaiting(List<Future<String>> results) throws InterruptedException {
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertTrue(results.stream().noneMatch(Future::isDone));
+    }
+}